@@ -0,0 +1,200 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.audio.WavHeader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+
+import okio.Buffer;
+
+/**
+ * A WAV clip uploaded while it is being recorded. Pass a capture to an asynchronous enrollment, identification or
+ * verification call as soon as recording starts: the request is sent with chunked transfer encoding and the
+ * samples written to the capture are forwarded as they arrive, so the upload completes right after
+ * {@link #finish()} instead of starting only once the whole clip exists.
+ * <p>
+ * The recording thread writes 16 bit little endian mono PCM, e.g. the buffers read from an {@code AudioRecord}.
+ * Samples waiting for the connection are kept in pooled segments up to a bound, beyond which writes block until
+ * the upload catches up. A capture can be uploaded once.
+ */
+public final class AudioCapture {
+
+    /**
+     * The default number of bytes waiting for the connection before writes block, half a minute at 16 kHz
+     */
+    public static final long DEFAULT_MAX_BUFFERED_BYTES = 1024 * 1024;
+
+    private final Buffer pending = new Buffer();
+    private final long maxBufferedBytes;
+    private boolean attached;
+    private boolean finished;
+    private boolean aborted;
+    private boolean detached;
+
+    /**
+     * @param sampleRate The sample rate of the recording in Hz
+     */
+    public AudioCapture(int sampleRate) {
+        this(sampleRate, DEFAULT_MAX_BUFFERED_BYTES);
+    }
+
+    /**
+     * @param sampleRate       The sample rate of the recording in Hz
+     * @param maxBufferedBytes The number of bytes waiting for the connection before writes block
+     */
+    public AudioCapture(int sampleRate, long maxBufferedBytes) {
+        if (maxBufferedBytes <= 0) {
+            throw new IllegalArgumentException("maxBufferedBytes <= 0");
+        }
+        this.maxBufferedBytes = maxBufferedBytes;
+        pending.write(WavHeader.pcm(sampleRate, 1, 16, -1).toByteArray());
+    }
+
+    /**
+     * Appends recorded samples
+     *
+     * @param pcm    The buffer holding the samples
+     * @param offset The offset of the first byte
+     * @param length The number of bytes
+     * @throws IOException Signals the upload ended before the capture was finished, e.g. because it failed or was
+     *                     cancelled, or the thread was interrupted while waiting for the upload to catch up
+     */
+    public synchronized void write(byte[] pcm, int offset, int length) throws IOException {
+        awaitRoom(length);
+        pending.write(pcm, offset, length);
+        notifyAll();
+    }
+
+    /**
+     * Appends the recorded samples between the position and the limit of a buffer, advancing its position
+     *
+     * @param pcm The buffer holding the samples
+     * @throws IOException Signals the upload ended before the capture was finished, e.g. because it failed or was
+     *                     cancelled, or the thread was interrupted while waiting for the upload to catch up
+     */
+    public synchronized void write(ByteBuffer pcm) throws IOException {
+        awaitRoom(pcm.remaining());
+        while (pcm.hasRemaining()) {
+            pending.write(pcm);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Ends the recording, the upload completes once the samples written so far are sent
+     */
+    public synchronized void finish() {
+        finished = true;
+        notifyAll();
+    }
+
+    /**
+     * Abandons the recording, the upload then fails instead of submitting a partial clip
+     */
+    public synchronized void abort() {
+        aborted = true;
+        pending.clear();
+        notifyAll();
+    }
+
+    /**
+     * Opens the stream read by the upload, which blocks until samples are written or the capture ends
+     *
+     * @return The WAV stream
+     * @throws IllegalStateException Signals the capture is already being uploaded
+     */
+    synchronized InputStream openStream() {
+        if (attached) {
+            throw new IllegalStateException("The capture is already being uploaded");
+        }
+        attached = true;
+        return new InputStream() {
+            private final byte[] single = new byte[1];
+
+            @Override
+            public int read() throws IOException {
+                return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                return AudioCapture.this.read(bytes, offset, length);
+            }
+
+            @Override
+            public void close() {
+                detach();
+            }
+        };
+    }
+
+    /**
+     * Ties the capture to the call uploading it, so writes fail once the call completes
+     *
+     * @param upload The future of the call
+     * @param <T>    The type of the call result
+     * @return The future
+     */
+    <T> ServiceFuture<T> uploadedBy(ServiceFuture<T> upload) {
+        upload.addCallback(new ServiceCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                detach();
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                detach();
+            }
+        });
+        return upload;
+    }
+
+    private synchronized int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        try {
+            while (pending.size() == 0 && !finished && !aborted && !detached) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for audio");
+        }
+        if (aborted) {
+            throw new IOException("The audio capture was aborted");
+        }
+        if (pending.size() == 0) {
+            return -1;
+        }
+        int read = pending.read(bytes, offset, length);
+        notifyAll();
+        return read;
+    }
+
+    private synchronized void detach() {
+        detached = true;
+        pending.clear();
+        notifyAll();
+    }
+
+    private void awaitRoom(long length) throws IOException {
+        if (finished || aborted) {
+            throw new IllegalStateException("The capture has ended");
+        }
+        try {
+            while (!detached && pending.size() > 0 && pending.size() + length > maxBufferedBytes) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the upload");
+        }
+        if (detached) {
+            throw new IOException("The upload ended before the capture was finished");
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.audio.AudioConditioner;
+import com.microsoft.cognitive.speakerrecognition.audio.WavHeader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import okio.BufferedSink;
+
+/**
+ * An immutable WAV clip which can be submitted any number of times, e.g. identified against several profile shards
+ * or verified against several profiles, without reading or copying the audio again.
+ * <p>
+ * A payload holds its audio either in memory or in a read-only memory-mapped file. Each upload writes straight
+ * from that buffer to the connection. Payloads are thread safe and can be uploaded concurrently.
+ */
+public final class AudioPayload {
+
+    private final ByteBuffer audio;
+    private volatile AudioPayload conditioned;
+    private volatile String contentHash;
+
+    private AudioPayload(ByteBuffer audio) {
+        this.audio = audio.asReadOnlyBuffer();
+    }
+
+    /**
+     * Creates a payload from a copy of WAV bytes
+     *
+     * @param audio The WAV bytes
+     * @return The payload
+     */
+    public static AudioPayload copyOf(byte[] audio) {
+        return new AudioPayload(ByteBuffer.wrap(audio.clone()));
+    }
+
+    /**
+     * Creates a payload mapping a WAV file into memory, the file must not be modified while the payload is in use
+     *
+     * @param audio The WAV file
+     * @return The payload
+     * @throws IOException Signals the file couldn't be mapped
+     */
+    public static AudioPayload map(File audio) throws IOException {
+        FileInputStream in = new FileInputStream(audio);
+        try {
+            FileChannel channel = in.getChannel();
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Audio file too large: " + audio);
+            }
+            // The mapping stays valid once the channel is closed
+            return new AudioPayload(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Creates a payload reading a WAV stream to its end into memory
+     *
+     * @param audioStream The WAV stream, closing it is left to the caller
+     * @return The payload
+     * @throws IOException Signals a failure while reading the stream
+     */
+    public static AudioPayload read(InputStream audioStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = audioStream.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return new AudioPayload(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * @return The number of bytes of the clip
+     */
+    public long length() {
+        return audio.capacity();
+    }
+
+    /**
+     * Opens a stream reading the clip from its start
+     *
+     * @return The stream
+     */
+    public InputStream openStream() {
+        final ByteBuffer view = audio.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(length, view.remaining());
+                view.get(bytes, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    /**
+     * @return A read-only view of the clip, positioned at its first byte
+     */
+    ByteBuffer view() {
+        return audio.duplicate();
+    }
+
+    /**
+     * Writes the clip to a sink
+     *
+     * @param sink The sink
+     * @throws IOException Signals a failure while writing
+     */
+    void writeTo(BufferedSink sink) throws IOException {
+        ByteBuffer view = audio.duplicate();
+        while (view.hasRemaining()) {
+            sink.write(view);
+        }
+    }
+
+    /**
+     * Hashes the clip on first use only. A cryptographic hash is used since a collision would return the result
+     * of another clip.
+     *
+     * @return The SHA-256 digest of the clip, in hexadecimal
+     */
+    String contentHash() {
+        String result = contentHash;
+        if (result == null) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            digest.update(audio.duplicate());
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            result = hex.toString();
+            contentHash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets this clip converted to the format expected by the service, converting it on first use only
+     *
+     * @return This payload if it is in the service format already, or a converted copy in memory
+     * @throws IOException Signals the clip isn't a WAV clip or can't be converted
+     */
+    AudioPayload conditioned() throws IOException {
+        AudioPayload result = conditioned;
+        if (result == null) {
+            InputStream in = openStream();
+            WavHeader header = WavHeader.read(in);
+            if (AudioConditioner.isServiceFormat(header)) {
+                result = this;
+            } else {
+                result = read(AudioConditioner.condition(openStream()));
+            }
+            conditioned = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,324 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.audio.AudioConditioner;
+import com.microsoft.cognitive.speakerrecognition.audio.SilenceTrimmer;
+import com.microsoft.cognitive.speakerrecognition.audio.WavHeader;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * A package-private factory of the request bodies uploading audio, applying the configured audio processing
+ */
+class AudioUploads {
+
+    /**
+     * The media type of the audio part
+     */
+    private static final MediaType AUDIO_MEDIA_TYPE = MediaType.parse("multipart/form-data");
+
+    /**
+     * The maximum number of bytes of an audio stream kept in memory so OkHttp can retry the upload
+     */
+    private static final long STREAM_SPOOL_LIMIT = 1024 * 1024;
+
+    /**
+     * The shortest audio the service accepts, whatever the operation
+     */
+    private static final long MIN_DURATION_MILLIS = 1000;
+
+    private final boolean conditioningEnabled;
+    private final boolean validationEnabled;
+    private final SilenceTrimmer trimmer;
+
+    /**
+     * @param conditioningEnabled Whether audio is converted to 16 kHz mono 16 bit PCM while it is uploaded
+     * @param validationEnabled   Whether audio the service would reject is detected before it is uploaded
+     * @param trimmingEnabled     Whether the leading and trailing non-speech of the audio is left out of the upload
+     */
+    AudioUploads(boolean conditioningEnabled, boolean validationEnabled, boolean trimmingEnabled) {
+        this.conditioningEnabled = conditioningEnabled;
+        this.validationEnabled = validationEnabled;
+        this.trimmer = trimmingEnabled ? new SilenceTrimmer() : null;
+    }
+
+    /**
+     * Checks the header of a WAV file, which is mapped rather than read
+     *
+     * @param audio The WAV file
+     * @return The reason the service would reject the audio, or null if it may be uploaded. A file which can't be
+     * mapped is left to the upload, which then reports the failure.
+     */
+    String check(File audio) {
+        if (!validationEnabled) {
+            return null;
+        }
+        AudioPayload payload;
+        try {
+            payload = AudioPayload.map(audio);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+        return check(payload.view());
+    }
+
+    /**
+     * Checks the header of a payload
+     *
+     * @param audio The payload
+     * @return The reason the service would reject the audio, or null if it may be uploaded
+     */
+    String check(AudioPayload audio) {
+        return validationEnabled ? check(audio.view()) : null;
+    }
+
+    /**
+     * Checks the format, the data length and the duration declared by a WAV header against what the service
+     * accepts, or what can be converted to it when conditioning is enabled
+     */
+    private String check(ByteBuffer audio) {
+        WavHeader header;
+        try {
+            header = WavHeader.parse(audio);
+        } catch (IOException e) {
+            return "Invalid audio format: " + e.getMessage();
+        }
+        if (conditioningEnabled ? !AudioConditioner.isConvertible(header) : !AudioConditioner.isServiceFormat(header)) {
+            return "Invalid audio format: " + header.getChannels() + " channel(s) of " + header.getBitsPerSample()
+                    + " bit " + (header.getAudioFormat() == WavHeader.FORMAT_PCM ? "PCM" : "format " + header.getAudioFormat())
+                    + " at " + header.getSampleRate() + " Hz"
+                    + (conditioningEnabled ? " can't be converted" : ", expected mono 16 bit PCM at 16000 Hz");
+        }
+        long available = audio.remaining();
+        long dataLength = header.getDataLength();
+        if (dataLength > available) {
+            return "Truncated audio: the data chunk declares " + dataLength + " bytes but holds " + available;
+        }
+        long frames = (dataLength < 0 ? available : dataLength) / header.getBlockAlign();
+        long durationMillis = frames * 1000 / header.getSampleRate();
+        if (durationMillis < MIN_DURATION_MILLIS) {
+            return "Audio too short: " + durationMillis + " ms, at least " + MIN_DURATION_MILLIS + " ms are required";
+        }
+        return null;
+    }
+
+    /**
+     * Creates the body uploading a WAV file
+     *
+     * @param audio The WAV file
+     * @return The request body, which reads the file each time it is written
+     */
+    RequestBody fromFile(File audio) {
+        if (trimmer != null) {
+            return new TrimmedRequestBody(null, audio);
+        }
+        if (conditioningEnabled) {
+            return new ConditionedFileRequestBody(audio);
+        }
+        return RequestBody.create(AUDIO_MEDIA_TYPE, audio);
+    }
+
+    /**
+     * Creates the body uploading a WAV stream, which is read while the request is written
+     *
+     * @param audioStream The WAV stream, closing it is left to the caller
+     * @return The request body
+     * @throws IOException Signals a failure while reading the WAV header when conditioning is enabled
+     */
+    RequestBody fromStream(InputStream audioStream) throws IOException {
+        if (trimmer != null) {
+            InputStream audio = conditioningEnabled ? AudioConditioner.condition(audioStream) : audioStream;
+            return new InputStreamRequestBody(AUDIO_MEDIA_TYPE, trimmer.trim(audio), -1, STREAM_SPOOL_LIMIT);
+        }
+        if (conditioningEnabled) {
+            AudioConditioner.ConditionedAudio conditioned = AudioConditioner.condition(audioStream);
+            return new InputStreamRequestBody(AUDIO_MEDIA_TYPE, conditioned, conditioned.length(), STREAM_SPOOL_LIMIT);
+        }
+        return new InputStreamRequestBody(AUDIO_MEDIA_TYPE, audioStream, -1, STREAM_SPOOL_LIMIT);
+    }
+
+    /**
+     * Creates the body uploading a capture, which is read while the request is written and sent chunked
+     *
+     * @param audio The capture
+     * @return The request body
+     * @throws IOException Signals a failure while reading the WAV header when conditioning is enabled
+     */
+    RequestBody fromCapture(AudioCapture audio) throws IOException {
+        InputStream audioStream = audio.openStream();
+        try {
+            return fromStream(audioStream);
+        } catch (IOException e) {
+            audioStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the body uploading a payload, written from the payload's buffer each time.
+     * With conditioning enabled the payload is converted on its first upload only.
+     *
+     * @param audio The payload
+     * @return The request body
+     */
+    RequestBody fromPayload(final AudioPayload audio) {
+        if (trimmer != null) {
+            return new TrimmedRequestBody(audio, null);
+        }
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return AUDIO_MEDIA_TYPE;
+            }
+
+            @Override
+            public long contentLength() throws IOException {
+                return payload().length();
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                payload().writeTo(sink);
+            }
+
+            private AudioPayload payload() throws IOException {
+                return conditioningEnabled ? audio.conditioned() : audio;
+            }
+        };
+    }
+
+    /**
+     * A body uploading the speech of a payload or a file, found on first use. The file is mapped and the speech
+     * is written from a slice of the payload or the mapping, after a header declaring its length, so the audio
+     * is never copied. Audio which can't be trimmed is uploaded whole.
+     */
+    private class TrimmedRequestBody extends RequestBody {
+
+        private final AudioPayload payload;
+        private final File file;
+        private byte[] header;
+        private ByteBuffer speech;
+
+        TrimmedRequestBody(AudioPayload payload, File file) {
+            this.payload = payload;
+            this.file = file;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return AUDIO_MEDIA_TYPE;
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            prepare();
+            return header.length + speech.remaining();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            prepare();
+            sink.write(header);
+            ByteBuffer view = speech.duplicate();
+            while (view.hasRemaining()) {
+                sink.write(view);
+            }
+        }
+
+        private synchronized void prepare() throws IOException {
+            if (speech != null) {
+                return;
+            }
+            AudioPayload audio = payload != null ? payload : AudioPayload.map(file);
+            if (conditioningEnabled) {
+                audio = audio.conditioned();
+            }
+            ByteBuffer view = audio.view();
+            WavHeader source = WavHeader.parse(view);
+            if (!SilenceTrimmer.isTrimmable(source)) {
+                header = new byte[0];
+                speech = audio.view();
+                return;
+            }
+            long dataLength = source.getDataLength();
+            if (dataLength >= 0 && dataLength < view.remaining()) {
+                view.limit(view.position() + (int) dataLength);
+            }
+            speech = trimmer.trim(view, source.getSampleRate());
+            header = WavHeader.pcm(source.getSampleRate(), 1, 16, speech.remaining()).toByteArray();
+        }
+    }
+
+    /**
+     * A body converting a WAV file while it is written, files already in the service format are uploaded as is
+     */
+    private static class ConditionedFileRequestBody extends RequestBody {
+
+        private final File audio;
+        private long contentLength = -2;
+
+        ConditionedFileRequestBody(File audio) {
+            this.audio = audio;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return AUDIO_MEDIA_TYPE;
+        }
+
+        @Override
+        public synchronized long contentLength() throws IOException {
+            if (contentLength == -2) {
+                AudioConditioner.ConditionedAudio conditioned = open();
+                try {
+                    contentLength = AudioConditioner.isServiceFormat(conditioned.getSourceHeader())
+                            ? audio.length()
+                            : conditioned.length();
+                } finally {
+                    conditioned.close();
+                }
+            }
+            return contentLength;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            AudioConditioner.ConditionedAudio conditioned = open();
+            try {
+                if (AudioConditioner.isServiceFormat(conditioned.getSourceHeader())) {
+                    conditioned.close();
+                    Source source = Okio.source(audio);
+                    try {
+                        sink.writeAll(source);
+                    } finally {
+                        source.close();
+                    }
+                } else {
+                    sink.writeAll(Okio.source(conditioned));
+                }
+            } finally {
+                conditioned.close();
+            }
+        }
+
+        private AudioConditioner.ConditionedAudio open() throws IOException {
+            InputStream in = new BufferedInputStream(new FileInputStream(audio));
+            try {
+                return AudioConditioner.condition(in);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+    }
+}
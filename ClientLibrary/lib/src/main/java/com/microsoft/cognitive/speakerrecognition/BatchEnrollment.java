@@ -0,0 +1,526 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.EnrollmentException;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.EnrollmentOperation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.OperationLocation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Status;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enrolls identification profiles from many recordings, resuming after a crash where the previous run left off.
+ * <p>
+ * The recordings are uploaded concurrently within the budget of a {@link BulkPolicy}, each upload freeing its slot
+ * as soon as the service accepted it. The enrollment operations are then awaited by a shared
+ * {@link OperationPollingEngine}, so uploads never wait on polling. Progress is recorded in a checkpoint file:
+ * a recording enrolled by a previous run is skipped, and one uploaded but not known to be enrolled is polled again
+ * instead of being uploaded twice. Failed recordings are retried by the next run.
+ * <p>
+ * The recordings of a profile are uploaded in manifest order but may be enrolled concurrently.
+ */
+public final class BatchEnrollment {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * A recording to enroll into a profile
+     */
+    public static final class Item {
+
+        private final UUID profileId;
+        private final File file;
+
+        public Item(UUID profileId, File file) {
+            this.profileId = profileId;
+            this.file = file.getAbsoluteFile();
+        }
+
+        /**
+         * @return The profile to enroll
+         */
+        public UUID getProfileId() {
+            return profileId;
+        }
+
+        /**
+         * @return The recording
+         */
+        public File getFile() {
+            return file;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Item)) {
+                return false;
+            }
+            Item other = (Item) o;
+            return profileId.equals(other.profileId) && file.equals(other.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * profileId.hashCode() + file.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return profileId + " " + file;
+        }
+    }
+
+    /**
+     * The outcome of a run, item by item, and its throughput
+     */
+    public static final class Report {
+
+        private final Map<Item, EnrollmentOperation> enrolled;
+        private final Map<Item, Exception> failed;
+        private final int skipped;
+        private final long elapsedNanos;
+        private final long uploadedFileBytes;
+
+        private Report(Map<Item, EnrollmentOperation> enrolled, Map<Item, Exception> failed, int skipped,
+                       long elapsedNanos, long uploadedFileBytes) {
+            this.enrolled = Collections.unmodifiableMap(enrolled);
+            this.failed = Collections.unmodifiableMap(failed);
+            this.skipped = skipped;
+            this.elapsedNanos = elapsedNanos;
+            this.uploadedFileBytes = uploadedFileBytes;
+        }
+
+        /**
+         * @return The succeeded enrollment operation of each item enrolled by this run, in manifest order
+         */
+        public Map<Item, EnrollmentOperation> getEnrolled() {
+            return enrolled;
+        }
+
+        /**
+         * @return The exception of each failed item, in manifest order. An {@link EnrollmentException} reports an
+         * upload rejected or an enrollment operation failed by the service.
+         */
+        public Map<Item, Exception> getFailed() {
+            return failed;
+        }
+
+        /**
+         * @return The number of items skipped since a previous run enrolled them
+         */
+        public int getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * @param unit The unit of the duration
+         * @return The duration of the run
+         */
+        public long getElapsed(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return The total size of the audio files uploaded by this run, as stored. The request bodies are smaller
+         * when silence trimming or audio conditioning is enabled.
+         */
+        public long getUploadedFileBytes() {
+            return uploadedFileBytes;
+        }
+
+        /**
+         * @return The number of items enrolled per second by this run
+         */
+        public double getEnrollmentsPerSecond() {
+            return elapsedNanos == 0 ? 0 : enrolled.size() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("enrolled=%d failed=%d skipped=%d in %d ms (%.1f/s, %d file bytes uploaded)",
+                    enrolled.size(), failed.size(), skipped, getElapsed(TimeUnit.MILLISECONDS), getEnrollmentsPerSecond(),
+                    uploadedFileBytes);
+        }
+    }
+
+    private final SpeakerIdentificationClient client;
+    private final OperationPollingEngine pollingEngine;
+    private final File checkpointFile;
+    private final BulkPolicy uploadPolicy;
+    private final boolean forceShortAudio;
+    private final long timeoutNanos;
+
+    private BatchEnrollment(Builder builder) {
+        this.client = builder.client;
+        this.pollingEngine = builder.pollingEngine;
+        this.checkpointFile = builder.checkpointFile;
+        this.uploadPolicy = builder.uploadPolicy;
+        this.forceShortAudio = builder.forceShortAudio;
+        this.timeoutNanos = builder.timeoutNanos;
+    }
+
+    public static class Builder {
+
+        private final SpeakerIdentificationClient client;
+        private final OperationPollingEngine pollingEngine;
+        private final File checkpointFile;
+        private BulkPolicy uploadPolicy = BulkPolicy.DEFAULT;
+        private boolean forceShortAudio;
+        private long timeoutNanos = TimeUnit.MINUTES.toNanos(10);
+
+        /**
+         * @param client         The client uploading the recordings
+         * @param pollingEngine  The engine awaiting the enrollment operations
+         * @param checkpointFile The file recording the progress, created if needed
+         */
+        public Builder(SpeakerIdentificationClient client, OperationPollingEngine pollingEngine, File checkpointFile) {
+            this.client = client;
+            this.pollingEngine = pollingEngine;
+            this.checkpointFile = checkpointFile;
+        }
+
+        /**
+         * Sets the concurrency and rate budget of the uploads, e.g. the transaction quota of the subscription.
+         * Defaults to {@link BulkPolicy#DEFAULT}.
+         *
+         * @param uploadPolicy The upload budget
+         * @return This builder
+         */
+        public Builder setUploadPolicy(BulkPolicy uploadPolicy) {
+            this.uploadPolicy = uploadPolicy;
+            return this;
+        }
+
+        /**
+         * Sets whether to bypass the minimum audio length recommended for enrollment. Defaults to false.
+         *
+         * @param forceShortAudio Whether to accept short recordings
+         * @return This builder
+         */
+        public Builder setForceShortAudio(boolean forceShortAudio) {
+            this.forceShortAudio = forceShortAudio;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait for each enrollment operation once uploaded. Defaults to 10 minutes.
+         *
+         * @param timeout The maximum time to wait
+         * @param unit    The unit of the timeout
+         * @return This builder
+         */
+        public Builder setEnrollmentTimeout(long timeout, TimeUnit unit) {
+            if (timeout <= 0) {
+                throw new IllegalArgumentException("timeout <= 0");
+            }
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        public BatchEnrollment build() {
+            return new BatchEnrollment(this);
+        }
+    }
+
+    /**
+     * Reads a manifest listing one recording per line as {@code <profile id>,<path>}. Relative paths are resolved
+     * against the directory of the manifest, empty lines and lines starting with {@code #} are ignored.
+     *
+     * @param manifest The manifest file
+     * @return The recordings of each profile, in manifest order
+     * @throws IOException Signals the manifest couldn't be read, or a malformed line
+     */
+    public static Map<UUID, List<File>> readManifest(File manifest) throws IOException {
+        Map<UUID, List<File>> recordings = new LinkedHashMap<>();
+        File directory = manifest.getAbsoluteFile().getParentFile();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifest), UTF_8));
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                UUID profileId;
+                try {
+                    profileId = comma < 0 ? null : UUID.fromString(line.substring(0, comma).trim());
+                } catch (IllegalArgumentException e) {
+                    profileId = null;
+                }
+                if (profileId == null) {
+                    throw new IOException("Malformed manifest line " + lineNumber + ": " + line);
+                }
+                File file = new File(line.substring(comma + 1).trim());
+                if (!file.isAbsolute()) {
+                    file = new File(directory, file.getPath());
+                }
+                List<File> files = recordings.get(profileId);
+                if (files == null) {
+                    files = new ArrayList<>();
+                    recordings.put(profileId, files);
+                }
+                files.add(file);
+            }
+        } finally {
+            reader.close();
+        }
+        return recordings;
+    }
+
+    /**
+     * Enrolls the recordings of a manifest, blocking until every item completed
+     *
+     * @param manifest The recordings of each profile
+     * @return The outcome of each item and the throughput of the run
+     * @throws IOException          Signals the checkpoint file couldn't be opened
+     * @throws InterruptedException Signals the thread was interrupted, the run is then cancelled
+     */
+    public Report run(Map<UUID, ? extends Collection<File>> manifest) throws IOException, InterruptedException {
+        ServiceFuture<Report> future = runAsync(manifest, null);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Asynchronously enrolls the recordings of a manifest
+     *
+     * @param manifest The recordings of each profile
+     * @param callback An optional callback notified once every item completed, may be null
+     * @return A future completed with the outcome of each item and the throughput of the run, or failed with an
+     * {@link IOException} if the checkpoint file couldn't be opened. Cancelling it stops the uploads and the polling,
+     * the next run resuming them.
+     */
+    public ServiceFuture<Report> runAsync(Map<UUID, ? extends Collection<File>> manifest, ServiceCallback<? super Report> callback) {
+        Set<Item> items = new LinkedHashSet<>();
+        for (Map.Entry<UUID, ? extends Collection<File>> entry : manifest.entrySet()) {
+            for (File file : entry.getValue()) {
+                items.add(new Item(entry.getKey(), file));
+            }
+        }
+        EnrollmentCheckpoint checkpoint;
+        try {
+            checkpoint = new EnrollmentCheckpoint(checkpointFile);
+        } catch (IOException e) {
+            return ServiceFuture.failed(e, callback);
+        }
+        Run run = new Run(new ArrayList<>(items), checkpoint);
+        if (callback != null) {
+            run.addCallback(callback);
+        }
+        run.start();
+        return run;
+    }
+
+    private final class Run extends ServiceFuture<Report> {
+
+        private final List<Item> items;
+        private final EnrollmentCheckpoint checkpoint;
+        private final long startNanos = System.nanoTime();
+        private final Map<Item, EnrollmentOperation> enrolled = new ConcurrentHashMap<>();
+        private final Map<Item, Exception> failed = new ConcurrentHashMap<>();
+        private final Set<ServiceFuture<?>> polls = Collections.newSetFromMap(new ConcurrentHashMap<ServiceFuture<?>, Boolean>());
+        private final AtomicInteger remaining = new AtomicInteger();
+        private final AtomicLong uploadedFileBytes = new AtomicLong();
+        private int skipped;
+        private volatile ServiceFuture<?> uploads;
+
+        Run(List<Item> items, EnrollmentCheckpoint checkpoint) {
+            this.items = items;
+            this.checkpoint = checkpoint;
+        }
+
+        void start() {
+            List<Item> toUpload = new ArrayList<>();
+            Map<Item, String> toPoll = new LinkedHashMap<>();
+            for (Item item : items) {
+                String url = checkpoint.getUploadedUrl(item);
+                if (checkpoint.isEnrolled(item)) {
+                    skipped++;
+                } else if (url != null) {
+                    toPoll.put(item, url);
+                } else {
+                    toUpload.add(item);
+                }
+            }
+            remaining.set(toUpload.size() + toPoll.size());
+            if (remaining.get() == 0) {
+                finish();
+                return;
+            }
+
+            for (Map.Entry<Item, String> entry : toPoll.entrySet()) {
+                OperationLocation location = new OperationLocation();
+                location.Url = entry.getValue();
+                poll(entry.getKey(), location);
+            }
+            uploads = BulkExecutor.run(toUpload, uploadPolicy, new BulkExecutor.ItemCall<Item, OperationLocation>() {
+                @Override
+                public ServiceFuture<OperationLocation> start(final Item item) {
+                    ServiceFuture<OperationLocation> upload = client.enrollAsync(item.getFile(), item.getProfileId(), forceShortAudio, null);
+                    upload.addCallback(new ServiceCallback<OperationLocation>() {
+                        @Override
+                        public void onSuccess(OperationLocation location) {
+                            uploadedFileBytes.addAndGet(item.getFile().length());
+                            try {
+                                checkpoint.recordUploaded(item, location.Url);
+                            } catch (IOException e) {
+                                // The next run uploads the item again
+                                completed(item, null, e);
+                                return;
+                            }
+                            poll(item, location);
+                        }
+
+                        @Override
+                        public void onFailure(Exception exception) {
+                            completed(item, null, exception);
+                        }
+                    });
+                    return upload;
+                }
+            }, null);
+            if (isDone()) {
+                uploads.cancel(true);
+            }
+        }
+
+        private void poll(final Item item, OperationLocation location) {
+            if (isDone()) {
+                return;
+            }
+            final ServiceFuture<EnrollmentOperation> poll = pollingEngine.awaitEnrollment(location, item.getProfileId(),
+                    timeoutNanos, TimeUnit.NANOSECONDS, null);
+            polls.add(poll);
+            poll.addCallback(new ServiceCallback<EnrollmentOperation>() {
+                @Override
+                public void onSuccess(EnrollmentOperation operation) {
+                    polls.remove(poll);
+                    if (operation.status != Status.SUCCEEDED) {
+                        try {
+                            checkpoint.recordFailed(item);
+                        } catch (IOException e) {
+                            // The next run checks the operation status again
+                        }
+                        completed(item, null, new EnrollmentException(operation.message));
+                        return;
+                    }
+                    try {
+                        checkpoint.recordEnrolled(item);
+                    } catch (IOException e) {
+                        // The next run checks the operation status again
+                    }
+                    completed(item, operation, null);
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    polls.remove(poll);
+                    if (isServiceFailure(exception)) {
+                        // The operation can't be checked anymore, e.g. it expired, so the item is uploaded again
+                        try {
+                            checkpoint.recordFailed(item);
+                        } catch (IOException e) {
+                            // The next run checks the operation status again
+                        }
+                    }
+                    completed(item, null, exception);
+                }
+            });
+            if (isDone()) {
+                poll.cancel(true);
+            }
+        }
+
+        /**
+         * @return Whether a status check failed because of the service rather than the connection, a timeout or
+         * the batch being cancelled, in which case checking the operation again can't succeed either
+         */
+        private boolean isServiceFailure(Exception exception) {
+            return !(exception instanceof IOException) && !(exception instanceof TimeoutException)
+                    && !(exception instanceof CancellationException) && !(exception instanceof RejectedExecutionException);
+        }
+
+        private void completed(Item item, EnrollmentOperation operation, Exception exception) {
+            if (exception != null) {
+                failed.put(item, exception);
+            } else {
+                enrolled.put(item, operation);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            Map<Item, EnrollmentOperation> enrolledInOrder = new LinkedHashMap<>();
+            Map<Item, Exception> failedInOrder = new LinkedHashMap<>();
+            for (Item item : items) {
+                if (enrolled.containsKey(item)) {
+                    enrolledInOrder.put(item, enrolled.get(item));
+                } else if (failed.containsKey(item)) {
+                    failedInOrder.put(item, failed.get(item));
+                }
+            }
+            closeCheckpoint();
+            set(new Report(enrolledInOrder, failedInOrder, skipped, System.nanoTime() - startNanos,
+                    uploadedFileBytes.get()));
+        }
+
+        private void closeCheckpoint() {
+            try {
+                checkpoint.close();
+            } catch (IOException e) {
+                // Every record was flushed already
+            }
+        }
+
+        @Override
+        protected void onCancelled(boolean mayInterruptIfRunning) {
+            ServiceFuture<?> uploads = this.uploads;
+            if (uploads != null) {
+                uploads.cancel(mayInterruptIfRunning);
+            }
+            for (ServiceFuture<?> poll : polls) {
+                poll.cancel(mayInterruptIfRunning);
+            }
+            closeCheckpoint();
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.verification.Result;
+import com.microsoft.cognitive.speakerrecognition.contract.verification.Verification;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a labelled corpus through {@link SpeakerVerificationClient#verifyAsync(File, UUID, ServiceCallback)},
+ * e.g. to tune acceptance thresholds.
+ * <p>
+ * The manifest is a CSV file listing one clip per line as {@code <audio path>,<profile id>,<label>}, the label
+ * being {@code accept} when the clip is spoken by the profile owner and {@code reject} otherwise. Relative paths are
+ * resolved against the directory of the manifest, empty lines, lines starting with {@code #} and a header line are
+ * ignored. The manifest is read as verifications complete, within the concurrency and rate budget of a
+ * {@link BulkPolicy}, and each result is written as soon as it is known, so a corpus of any size runs in constant
+ * memory apart from the latencies kept for the percentiles.
+ * <p>
+ * The results are written as CSV lines {@code audio,profile,label,result,confidence,latency_ms,error} in completion
+ * order. Run {@link #main(String[])} to replay a corpus from the command line.
+ */
+public final class BatchVerification {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String RESULTS_HEADER = "audio,profile,label,result,confidence,latency_ms,error";
+
+    /**
+     * The counts, throughput and latency percentiles of a run
+     */
+    public static final class Summary {
+
+        private final int total;
+        private final int errors;
+        private final int falseAccepts;
+        private final int falseRejects;
+        private final int impostorTrials;
+        private final int genuineTrials;
+        private final long elapsedNanos;
+        private final long[] sortedLatencyNanos;
+
+        private Summary(int total, int errors, int falseAccepts, int falseRejects, int impostorTrials, int genuineTrials,
+                        long elapsedNanos, long[] sortedLatencyNanos) {
+            this.total = total;
+            this.errors = errors;
+            this.falseAccepts = falseAccepts;
+            this.falseRejects = falseRejects;
+            this.impostorTrials = impostorTrials;
+            this.genuineTrials = genuineTrials;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencyNanos = sortedLatencyNanos;
+        }
+
+        /**
+         * @return The number of clips verified, including the failed verifications
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * @return The number of verifications which failed with an exception
+         */
+        public int getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return The number of clips labelled reject which were accepted
+         */
+        public int getFalseAccepts() {
+            return falseAccepts;
+        }
+
+        /**
+         * @return The number of clips labelled accept which were rejected
+         */
+        public int getFalseRejects() {
+            return falseRejects;
+        }
+
+        /**
+         * @return The share of the verified clips labelled reject which were accepted, or 0 if there is none
+         */
+        public double getFalseAcceptRate() {
+            return impostorTrials == 0 ? 0 : (double) falseAccepts / impostorTrials;
+        }
+
+        /**
+         * @return The share of the verified clips labelled accept which were rejected, or 0 if there is none
+         */
+        public double getFalseRejectRate() {
+            return genuineTrials == 0 ? 0 : (double) falseRejects / genuineTrials;
+        }
+
+        /**
+         * @return The number of verifications completed per second
+         */
+        public double getVerificationsPerSecond() {
+            return elapsedNanos == 0 ? 0 : total * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * @param percentile The percentile, from 0 to 100
+         * @param unit       The unit of the latency
+         * @return The latency below which the given percentage of the verifications completed, or 0 if none did
+         */
+        public long getLatencyPercentile(double percentile, TimeUnit unit) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile not in [0, 100]");
+            }
+            if (sortedLatencyNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length);
+            return unit.convert(sortedLatencyNanos[Math.max(rank, 1) - 1], TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "%d verifications in %d ms (%.1f/s), %d errors, FAR %.4f (%d/%d), FRR %.4f (%d/%d), "
+                            + "latency p50 %d ms, p90 %d ms, p99 %d ms, max %d ms",
+                    total, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getVerificationsPerSecond(), errors,
+                    getFalseAcceptRate(), falseAccepts, impostorTrials, getFalseRejectRate(), falseRejects, genuineTrials,
+                    getLatencyPercentile(50, TimeUnit.MILLISECONDS), getLatencyPercentile(90, TimeUnit.MILLISECONDS),
+                    getLatencyPercentile(99, TimeUnit.MILLISECONDS), getLatencyPercentile(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private final SpeakerVerificationClient client;
+    private final BulkPolicy policy;
+
+    /**
+     * @param client The client running the verifications
+     * @param policy The concurrency and rate budget of the verifications
+     */
+    public BatchVerification(SpeakerVerificationClient client, BulkPolicy policy) {
+        this.client = client;
+        this.policy = policy;
+    }
+
+    /**
+     * Replays a corpus from the command line, printing the summary once every clip is verified:
+     * <pre>
+     * BatchVerification &lt;subscription key&gt; &lt;manifest.csv&gt; &lt;results.csv&gt;
+     *     [--base-url &lt;url&gt;] [--concurrency &lt;n&gt;] [--rate &lt;calls per second&gt;]
+     * </pre>
+     * The base URL allows running against a local stand-in server instead of the service.
+     *
+     * @param args The command line arguments
+     * @throws Exception Signals the manifest or the results couldn't be read or written
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3 || args.length % 2 == 0) {
+            usage();
+            return;
+        }
+        RecognitionFactory.Builder factory = new RecognitionFactory.Builder(args[0]);
+        BulkPolicy.Builder policy = new BulkPolicy.Builder();
+        for (int i = 3; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--base-url":
+                    factory.setBaseUrl(args[i + 1].endsWith("/") ? args[i + 1] : args[i + 1] + "/");
+                    break;
+                case "--concurrency":
+                    int concurrency = Integer.parseInt(args[i + 1]);
+                    policy.setMaxConcurrency(concurrency);
+                    factory.setMaxRequests(Math.max(64, concurrency), concurrency);
+                    break;
+                case "--rate":
+                    policy.setMaxCallsPerSecond(Double.parseDouble(args[i + 1]));
+                    break;
+                default:
+                    usage();
+                    return;
+            }
+        }
+
+        BatchVerification batch = new BatchVerification(factory.build().createSpeakerVerificationClient(), policy.build());
+        Writer results = new OutputStreamWriter(new FileOutputStream(args[2]), UTF_8);
+        try {
+            System.out.println(batch.run(new File(args[1]), results));
+        } finally {
+            results.close();
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: BatchVerification <subscription key> <manifest.csv> <results.csv>"
+                + " [--base-url <url>] [--concurrency <n>] [--rate <calls per second>]");
+        System.exit(2);
+    }
+
+    /**
+     * Verifies every clip of a manifest, blocking until the last verification completed
+     *
+     * @param manifest The manifest file
+     * @param results  The writer receiving the result lines, flushed after each line but not closed
+     * @return The summary of the run
+     * @throws IOException          Signals the manifest couldn't be read, a malformed manifest line, or the results
+     *                              couldn't be written
+     * @throws InterruptedException Signals the thread was interrupted, no further clip is then verified
+     */
+    public Summary run(File manifest, Writer results) throws IOException, InterruptedException {
+        File directory = manifest.getAbsoluteFile().getParentFile();
+        Run run = new Run(results);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifest), UTF_8));
+        try {
+            run.writeLine(RESULTS_HEADER);
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || (lineNumber == 1 && line.startsWith("audio,"))) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                Boolean genuine = fields.length == 3 ? parseLabel(fields[2].trim()) : null;
+                UUID profileId = fields.length == 3 ? parseId(fields[1].trim()) : null;
+                if (genuine == null || profileId == null) {
+                    throw new IOException("Malformed manifest line " + lineNumber + ": " + line);
+                }
+                File audio = new File(fields[0].trim());
+                if (!audio.isAbsolute()) {
+                    audio = new File(directory, audio.getPath());
+                }
+                run.verify(audio, fields[0].trim(), profileId, genuine);
+                run.checkWriteFailure();
+            }
+        } finally {
+            reader.close();
+            run.awaitAll();
+        }
+        run.checkWriteFailure();
+        return run.summarize();
+    }
+
+    private static Boolean parseLabel(String label) {
+        if (label.equalsIgnoreCase("accept") || label.equals("1") || label.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (label.equalsIgnoreCase("reject") || label.equals("0") || label.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private final class Run {
+
+        private final Writer results;
+        private final Semaphore slots = new Semaphore(policy.getMaxConcurrency());
+        private final long startNanos = System.nanoTime();
+        private long nextStartNanos = startNanos;
+        private IOException writeFailure;
+
+        // Guarded by this
+        private long[] latencyNanos = new long[1024];
+        private int total;
+        private int errors;
+        private int falseAccepts;
+        private int falseRejects;
+        private int impostorTrials;
+        private int genuineTrials;
+
+        Run(Writer results) {
+            this.results = results;
+        }
+
+        void verify(File audio, final String path, final UUID profileId, final boolean genuine) throws InterruptedException {
+            slots.acquire();
+            long delay = nextStartNanos - System.nanoTime();
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            final long callStartNanos = System.nanoTime();
+            nextStartNanos = policy.nextStartNanos(nextStartNanos, callStartNanos);
+            ServiceCallback<Verification> callback = new ServiceCallback<Verification>() {
+                @Override
+                public void onSuccess(Verification verification) {
+                    completed(path, profileId, genuine, System.nanoTime() - callStartNanos, verification, null);
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    completed(path, profileId, genuine, System.nanoTime() - callStartNanos, null, exception);
+                }
+            };
+            try {
+                client.verifyAsync(audio, profileId, callback);
+            } catch (RuntimeException e) {
+                callback.onFailure(e);
+            }
+        }
+
+        private void completed(String path, UUID profileId, boolean genuine, long latency, Verification verification,
+                               Exception exception) {
+            try {
+                StringBuilder line = new StringBuilder();
+                line.append(csv(path)).append(',').append(profileId).append(',').append(genuine ? "accept" : "reject").append(',');
+                synchronized (this) {
+                    if (total == latencyNanos.length) {
+                        latencyNanos = Arrays.copyOf(latencyNanos, total * 2);
+                    }
+                    latencyNanos[total++] = latency;
+                    if (exception != null || verification == null || verification.result == null) {
+                        errors++;
+                        String message = exception == null ? "Empty verification response" : exception.toString();
+                        line.append(",,").append(TimeUnit.NANOSECONDS.toMillis(latency)).append(',').append(csv(message));
+                    } else {
+                        boolean accepted = verification.result == Result.ACCEPT;
+                        if (genuine) {
+                            genuineTrials++;
+                            falseRejects += accepted ? 0 : 1;
+                        } else {
+                            impostorTrials++;
+                            falseAccepts += accepted ? 1 : 0;
+                        }
+                        line.append(verification.result).append(',')
+                                .append(verification.confidence == null ? "" : verification.confidence.toString()).append(',')
+                                .append(TimeUnit.NANOSECONDS.toMillis(latency)).append(',');
+                    }
+                    writeLine(line.toString());
+                }
+            } finally {
+                slots.release();
+            }
+        }
+
+        synchronized void writeLine(String line) {
+            if (writeFailure != null) {
+                return;
+            }
+            try {
+                results.write(line);
+                results.write('\n');
+                results.flush();
+            } catch (IOException e) {
+                writeFailure = e;
+            }
+        }
+
+        synchronized void checkWriteFailure() throws IOException {
+            if (writeFailure != null) {
+                throw writeFailure;
+            }
+        }
+
+        void awaitAll() throws InterruptedException {
+            slots.acquire(policy.getMaxConcurrency());
+            slots.release(policy.getMaxConcurrency());
+        }
+
+        synchronized Summary summarize() {
+            long[] sorted = Arrays.copyOf(latencyNanos, total);
+            Arrays.sort(sorted);
+            return new Summary(total, errors, falseAccepts, falseRejects, impostorTrials, genuineTrials,
+                    System.nanoTime() - startNanos, sorted);
+        }
+    }
+}
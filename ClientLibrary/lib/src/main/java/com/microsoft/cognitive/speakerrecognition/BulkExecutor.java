@@ -0,0 +1,270 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one asynchronous call per item within the concurrency and rate budget of a {@link BulkPolicy}.
+ * <p>
+ * A call is started whenever one completes, so no thread waits on a call in flight. Calls delayed by the rate limit
+ * are started by a shared daemon thread. Cancelling the future cancels the calls in flight and starts no other.
+ *
+ * @param <K> The item type
+ * @param <V> The result type of a single call
+ */
+final class BulkExecutor<K, V> extends ServiceFuture<BulkResult<K, V>> {
+
+    /**
+     * Starts the asynchronous call of an item
+     */
+    interface ItemCall<K, V> {
+        ServiceFuture<? extends V> start(K item);
+    }
+
+    private static ScheduledExecutorService scheduler;
+
+    private final List<K> items;
+    private final ItemCall<K, V> call;
+    private final BulkPolicy policy;
+
+    private final Object[] results;
+    private final Exception[] failures;
+    private final Map<Integer, Future<?>> inFlight = new HashMap<>();
+    private int nextItem;
+    private int completedItems;
+    private long nextStartNanos = System.nanoTime();
+    private Future<?> delayedStart;
+    private boolean launching;
+    private boolean relaunch;
+
+    private BulkExecutor(Collection<K> items, BulkPolicy policy, ItemCall<K, V> call) {
+        this.items = new ArrayList<>(new LinkedHashSet<>(items));
+        this.call = call;
+        this.policy = policy;
+        this.results = new Object[this.items.size()];
+        this.failures = new Exception[this.items.size()];
+    }
+
+    /**
+     * Runs the calls of all items
+     *
+     * @param items    The items, a repeated item is run once
+     * @param policy   The concurrency and rate budget
+     * @param call     The call run for each item
+     * @param callback An optional callback notified once every item completed, may be null
+     * @param <K>      The item type
+     * @param <V>      The result type of a single call
+     * @return A future completed with the outcome of every item
+     */
+    static <K, V> ServiceFuture<BulkResult<K, V>> run(Collection<K> items, BulkPolicy policy, ItemCall<K, V> call,
+                                                      ServiceCallback<? super BulkResult<K, V>> callback) {
+        BulkExecutor<K, V> executor = new BulkExecutor<>(items, policy, call);
+        if (callback != null) {
+            executor.addCallback(callback);
+        }
+        if (executor.items.isEmpty()) {
+            executor.complete();
+        } else {
+            executor.launch();
+        }
+        return executor;
+    }
+
+    /**
+     * Waits for a bulk operation on the calling thread
+     *
+     * @param future The bulk operation
+     * @param <K>    The item type
+     * @param <V>    The result type of a single call
+     * @return The outcome of every item
+     * @throws InterruptedException Signals the thread was interrupted, the bulk operation is then cancelled
+     */
+    static <K, V> BulkResult<K, V> await(ServiceFuture<BulkResult<K, V>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            // A bulk operation reports the failures of its items, it only fails on a programming error
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @return A list of the integers from 0 to count - 1, the items of a bulk operation without input
+     */
+    static List<Integer> indices(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count < 0");
+        }
+        List<Integer> indices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            indices.add(i);
+        }
+        return indices;
+    }
+
+    private static synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "BulkExecutor");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+
+    /**
+     * Starts as many calls as the budget allows. Calls completing while calls are started, possibly on the same
+     * thread, make the starting thread go on instead of recursing.
+     */
+    private void launch() {
+        synchronized (this) {
+            if (launching) {
+                relaunch = true;
+                return;
+            }
+            launching = true;
+        }
+        while (true) {
+            List<Integer> toStart = new ArrayList<>();
+            synchronized (this) {
+                relaunch = false;
+                long now = System.nanoTime();
+                while (!isDone() && delayedStart == null && inFlight.size() + toStart.size() < policy.getMaxConcurrency()
+                        && nextItem < items.size()) {
+                    if (nextStartNanos - now > 0) {
+                        delayedStart = scheduler().schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                synchronized (BulkExecutor.this) {
+                                    delayedStart = null;
+                                }
+                                launch();
+                            }
+                        }, nextStartNanos - now, TimeUnit.NANOSECONDS);
+                        break;
+                    }
+                    nextStartNanos = policy.nextStartNanos(nextStartNanos, now);
+                    toStart.add(nextItem++);
+                }
+                for (Integer index : toStart) {
+                    inFlight.put(index, null);
+                }
+            }
+
+            for (Integer index : toStart) {
+                start(index);
+            }
+
+            synchronized (this) {
+                if (!relaunch) {
+                    launching = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    private void start(final int index) {
+        ServiceFuture<? extends V> future;
+        try {
+            future = call.start(items.get(index));
+        } catch (RuntimeException e) {
+            completed(index, null, e);
+            return;
+        }
+        synchronized (this) {
+            if (inFlight.containsKey(index)) {
+                inFlight.put(index, future);
+            }
+        }
+        future.addCallback(new ServiceCallback<V>() {
+            @Override
+            public void onSuccess(V result) {
+                completed(index, result, null);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                completed(index, null, exception);
+            }
+        });
+        if (isDone()) {
+            future.cancel(true);
+        }
+    }
+
+    private void completed(int index, V result, Exception exception) {
+        boolean all;
+        synchronized (this) {
+            inFlight.remove(index);
+            results[index] = result;
+            failures[index] = exception;
+            all = ++completedItems == items.size();
+        }
+        if (all) {
+            complete();
+        } else {
+            launch();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete() {
+        Map<K, V> succeeded = new LinkedHashMap<>();
+        Map<K, Exception> failed = new LinkedHashMap<>();
+        synchronized (this) {
+            for (int i = 0; i < items.size(); i++) {
+                if (failures[i] != null) {
+                    failed.put(items.get(i), failures[i]);
+                } else {
+                    succeeded.put(items.get(i), (V) results[i]);
+                }
+            }
+        }
+        set(new BulkResult<>(succeeded, failed));
+    }
+
+    @Override
+    protected void onCancelled(boolean mayInterruptIfRunning) {
+        List<Future<?>> toCancel = new ArrayList<>();
+        synchronized (this) {
+            for (Future<?> future : inFlight.values()) {
+                if (future != null) {
+                    toCancel.add(future);
+                }
+            }
+            inFlight.clear();
+            if (delayedStart != null) {
+                toCancel.add(delayedStart);
+                delayedStart = null;
+            }
+        }
+        for (Future<?> future : toCancel) {
+            future.cancel(mayInterruptIfRunning);
+        }
+    }
+}
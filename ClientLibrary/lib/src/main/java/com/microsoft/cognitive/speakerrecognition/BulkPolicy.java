@@ -0,0 +1,89 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+/**
+ * The concurrency and rate budget of a bulk operation, e.g. creating or deleting many profiles.
+ * <p>
+ * At most a given number of calls are in flight at once, and calls are started no faster than a given rate so a
+ * bulk operation stays within the transaction quota of the subscription instead of failing half of its items.
+ */
+public final class BulkPolicy {
+
+    /**
+     * Runs 8 calls at once, without rate limit
+     */
+    public static final BulkPolicy DEFAULT = new Builder().build();
+
+    private final int maxConcurrency;
+    private final double maxCallsPerSecond;
+
+    private BulkPolicy(Builder builder) {
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxCallsPerSecond = builder.maxCallsPerSecond;
+    }
+
+    /**
+     * @return The maximum number of calls in flight at once
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return The maximum number of calls started per second, or 0 if unlimited
+     */
+    public double getMaxCallsPerSecond() {
+        return maxCallsPerSecond;
+    }
+
+    /**
+     * Computes when the call following one started now may start, the rate limit shared by every bulk operation.
+     * A call started later than scheduled doesn't let the next ones catch up in a burst.
+     *
+     * @param scheduledNanos The earliest start of the call starting now, as returned for the previous call
+     * @param nowNanos       The {@link System#nanoTime()} the call starts at
+     * @return The earliest start of the next call
+     */
+    long nextStartNanos(long scheduledNanos, long nowNanos) {
+        long intervalNanos = maxCallsPerSecond == 0 ? 0 : (long) (1e9 / maxCallsPerSecond);
+        return Math.max(scheduledNanos, nowNanos - intervalNanos) + intervalNanos;
+    }
+
+    public static class Builder {
+
+        private int maxConcurrency = 8;
+        private double maxCallsPerSecond;
+
+        /**
+         * Sets the maximum number of calls in flight at once. Defaults to 8.
+         *
+         * @param maxConcurrency The number of calls, at least 1
+         * @return This builder
+         */
+        public Builder setMaxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency < 1");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of calls started per second, e.g. the transaction quota of the subscription.
+         * Unlimited by default.
+         *
+         * @param maxCallsPerSecond The rate, or 0 for no limit
+         * @return This builder
+         */
+        public Builder setMaxCallsPerSecond(double maxCallsPerSecond) {
+            if (maxCallsPerSecond < 0) {
+                throw new IllegalArgumentException("maxCallsPerSecond < 0");
+            }
+            this.maxCallsPerSecond = maxCallsPerSecond;
+            return this;
+        }
+
+        public BulkPolicy build() {
+            return new BulkPolicy(this);
+        }
+    }
+}
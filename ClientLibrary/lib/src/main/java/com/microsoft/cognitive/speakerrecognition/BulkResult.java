@@ -0,0 +1,48 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of a bulk operation, item by item. A bulk operation never fails as a whole, each failed item is
+ * reported along with the exception its single call would have thrown.
+ *
+ * @param <K> The item type, e.g. a profile ID
+ * @param <V> The result type of a single call
+ */
+public final class BulkResult<K, V> {
+
+    private final Map<K, V> succeeded;
+    private final Map<K, Exception> failed;
+
+    BulkResult(Map<K, V> succeeded, Map<K, Exception> failed) {
+        this.succeeded = Collections.unmodifiableMap(succeeded);
+        this.failed = Collections.unmodifiableMap(failed);
+    }
+
+    /**
+     * @return The result of each succeeded item, in item order
+     */
+    public Map<K, V> getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * @return The exception of each failed item, in item order
+     */
+    public Map<K, Exception> getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return Whether every item succeeded
+     */
+    public boolean isAllSucceeded() {
+        return failed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "succeeded=" + succeeded.size() + " failed=" + failed.size();
+    }
+}
@@ -0,0 +1,201 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only file recording the progress of a {@link BatchEnrollment}: the files uploaded along with their
+ * operation location, and the files whose enrollment succeeded or failed.
+ * <p>
+ * Uploads are synced to the storage device before their operation is polled, so a restarted batch polls them
+ * again instead of uploading the audio twice. Outcomes are appended without syncing since losing one only causes
+ * an extra status check. Each record ends with a checksum of its fields, so a record torn by a crash is ignored on
+ * replay, and the torn tail is cut off before new records are appended.
+ */
+final class EnrollmentCheckpoint implements Closeable {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String UPLOADED = "U";
+    private static final String ENROLLED = "E";
+    private static final String FAILED = "F";
+    private static final String SEPARATOR = "\t";
+
+    private final Map<String, String> uploaded = new HashMap<>();
+    private final Set<String> enrolled = new HashSet<>();
+    private FileOutputStream out;
+    private Writer writer;
+
+    /**
+     * Opens a checkpoint, creating its file if needed, and replays the progress it records
+     *
+     * @param file The checkpoint file
+     * @throws IOException Signals the file couldn't be read or opened for writing
+     */
+    EnrollmentCheckpoint(File file) throws IOException {
+        if (file.exists()) {
+            replay(file);
+            truncateTornTail(file);
+        }
+        out = new FileOutputStream(file, true);
+        writer = new OutputStreamWriter(out, UTF_8);
+    }
+
+    /**
+     * @return Whether the enrollment of the item succeeded in a previous run
+     */
+    synchronized boolean isEnrolled(BatchEnrollment.Item item) {
+        return enrolled.contains(key(item));
+    }
+
+    /**
+     * @return The operation location of the item uploaded in a previous run, or null if it wasn't
+     */
+    synchronized String getUploadedUrl(BatchEnrollment.Item item) {
+        return uploaded.get(key(item));
+    }
+
+    /**
+     * Records an uploaded item, returning once the record is on the storage device
+     *
+     * @throws IOException Signals the record couldn't be written
+     */
+    synchronized void recordUploaded(BatchEnrollment.Item item, String url) throws IOException {
+        checkOpen();
+        String key = key(item);
+        append(UPLOADED + SEPARATOR + key + SEPARATOR + url);
+        out.getFD().sync();
+        uploaded.put(key, url);
+    }
+
+    /**
+     * Records an item whose enrollment succeeded, which won't be uploaded nor polled anymore
+     *
+     * @throws IOException Signals the record couldn't be written
+     */
+    synchronized void recordEnrolled(BatchEnrollment.Item item) throws IOException {
+        checkOpen();
+        String key = key(item);
+        append(ENROLLED + SEPARATOR + key);
+        enrolled.add(key);
+    }
+
+    /**
+     * Records an item whose enrollment operation failed, which will be uploaded again
+     *
+     * @throws IOException Signals the record couldn't be written
+     */
+    synchronized void recordFailed(BatchEnrollment.Item item) throws IOException {
+        checkOpen();
+        String key = key(item);
+        append(FAILED + SEPARATOR + key);
+        uploaded.remove(key);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            out = null;
+        }
+    }
+
+    private void append(String record) throws IOException {
+        writer.write(record + SEPARATOR + checksum(record) + "\n");
+        writer.flush();
+    }
+
+    private void checkOpen() throws IOException {
+        if (writer == null) {
+            throw new IOException("The checkpoint is closed");
+        }
+    }
+
+    private void replay(File file) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int end = line.lastIndexOf(SEPARATOR);
+                if (end < 0 || !line.substring(end + 1).equals(checksum(line.substring(0, end)))) {
+                    // A record torn by a crash, ignore it
+                    continue;
+                }
+                String[] fields = line.substring(0, end).split(SEPARATOR, -1);
+                try {
+                    if (fields.length == 4 && UPLOADED.equals(fields[0]) && !fields[3].isEmpty()) {
+                        uploaded.put(key(UUID.fromString(fields[1]), fields[2]), fields[3]);
+                    } else if (fields.length == 3 && ENROLLED.equals(fields[0])) {
+                        enrolled.add(key(UUID.fromString(fields[1]), fields[2]));
+                    } else if (fields.length == 3 && FAILED.equals(fields[0])) {
+                        uploaded.remove(key(UUID.fromString(fields[1]), fields[2]));
+                    }
+                } catch (IllegalArgumentException e) {
+                    // Not a record of this version, ignore it
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Cuts the file after its last complete record, so the next record doesn't extend a torn one
+     */
+    private static void truncateTornTail(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            long end = raf.length();
+            byte[] block = new byte[4096];
+            while (end > 0) {
+                int length = (int) Math.min(block.length, end);
+                raf.seek(end - length);
+                raf.readFully(block, 0, length);
+                int i = length - 1;
+                while (i >= 0 && block[i] != '\n') {
+                    i--;
+                }
+                if (i >= 0) {
+                    end = end - length + i + 1;
+                    break;
+                }
+                end -= length;
+            }
+            if (end < raf.length()) {
+                raf.setLength(end);
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static String checksum(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String key(BatchEnrollment.Item item) {
+        return key(item.getProfileId(), item.getFile().getAbsolutePath());
+    }
+
+    private static String key(UUID profileId, String path) {
+        return profileId + SEPARATOR + path;
+    }
+}
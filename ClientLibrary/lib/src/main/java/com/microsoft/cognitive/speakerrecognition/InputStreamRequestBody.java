@@ -0,0 +1,87 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * A request body streaming audio from an {@link InputStream} straight into the request, without an intermediate file.
+ * <p>
+ * OkHttp may write a body more than once, e.g. when retrying on a stale pooled connection. To support that the
+ * bytes read from the stream are also kept in a spool of bounded size: a repeated write replays the spool and
+ * then continues reading where the stream left off. Once the stream grows past the spool limit the body can
+ * only be written once. The stream is not closed, that is left to the caller.
+ */
+class InputStreamRequestBody extends RequestBody {
+
+    /**
+     * Bytes read from the stream per iteration, matching the okio segment size
+     */
+    private static final long READ_SIZE = 8192;
+
+    private final MediaType contentType;
+    private final InputStream in;
+    private final long contentLength;
+    private final long spoolLimit;
+    private final Buffer spool = new Buffer();
+    private boolean overflowed;
+    private boolean started;
+
+    /**
+     * Creates a request body for an audio stream
+     *
+     * @param contentType   The media type of the body
+     * @param in            The audio stream
+     * @param contentLength The number of bytes in the stream, or -1 if unknown in which case the request is sent chunked
+     * @param spoolLimit    The maximum number of bytes kept to replay the body, 0 to make the body non-replayable
+     */
+    InputStreamRequestBody(MediaType contentType, InputStream in, long contentLength, long spoolLimit) {
+        this.contentType = contentType;
+        this.in = in;
+        this.contentLength = contentLength;
+        this.spoolLimit = spoolLimit;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public synchronized void writeTo(BufferedSink sink) throws IOException {
+        if (started) {
+            if (overflowed) {
+                throw new IOException("The audio stream exceeded " + spoolLimit + " bytes and can't be written again");
+            }
+            spool.copyTo(sink.buffer(), 0, spool.size());
+            sink.emitCompleteSegments();
+        }
+        started = true;
+
+        Source source = Okio.source(in);
+        Buffer buffer = sink.buffer();
+        long read;
+        while ((read = source.read(buffer, READ_SIZE)) != -1) {
+            if (!overflowed) {
+                if (spool.size() + read <= spoolLimit) {
+                    buffer.copyTo(spool, buffer.size() - read, read);
+                } else {
+                    overflowed = true;
+                    spool.clear();
+                }
+            }
+            sink.emitCompleteSegments();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.identification.OperationLocation;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only file recording the enrollment and identification operations submitted to the service
+ * until they complete, so polling can resume after the process restarts instead of uploading the audio again.
+ * <p>
+ * Each submission is appended and synced to the storage device before it is acknowledged, completions are
+ * appended without syncing since losing one only causes an extra status check on the next start.
+ * Each record ends with a checksum of its fields, so a record torn by a crash is ignored on replay. The file is
+ * compacted when it is opened and whenever completed records outnumber pending ones.
+ * <p>
+ * The journal is thread safe, but a file must only be opened by one journal at a time.
+ */
+public final class OperationJournal implements Closeable {
+
+    /**
+     * The kind of operation recorded
+     */
+    public enum Kind {
+        ENROLLMENT,
+        IDENTIFICATION
+    }
+
+    /**
+     * A pending operation recorded in the journal
+     */
+    public static final class Entry {
+
+        private final Kind kind;
+        private final OperationLocation location;
+        private final List<UUID> profileIds;
+        private final long submittedTime;
+
+        private Entry(Kind kind, String url, List<UUID> profileIds, long submittedTime) {
+            this.kind = kind;
+            this.location = new OperationLocation();
+            this.location.Url = url;
+            this.profileIds = Collections.unmodifiableList(profileIds);
+            this.submittedTime = submittedTime;
+        }
+
+        /**
+         * @return The kind of operation
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return The operation location to poll
+         */
+        public OperationLocation getLocation() {
+            OperationLocation copy = new OperationLocation();
+            copy.Url = location.Url;
+            return copy;
+        }
+
+        /**
+         * @return The enrolled profile, or the profiles the speaker is identified against
+         */
+        public List<UUID> getProfileIds() {
+            return profileIds;
+        }
+
+        /**
+         * @return The time the operation was recorded
+         */
+        public Date getSubmittedTime() {
+            return new Date(submittedTime);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + location.Url + " " + profileIds;
+        }
+    }
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String PENDING = "P";
+    private static final String COMPLETED = "C";
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * The number of completed records tolerated before the file is compacted
+     */
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final File file;
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+    private FileOutputStream out;
+    private Writer writer;
+    private int completedRecords;
+
+    /**
+     * Opens a journal, creating its file if needed, and replays the operations it records as pending
+     *
+     * @param file The journal file
+     * @throws IOException Signals the file couldn't be read or written
+     */
+    public OperationJournal(File file) throws IOException {
+        this.file = file;
+        if (file.exists()) {
+            replay();
+        }
+        compact();
+    }
+
+    /**
+     * @return The operations recorded as pending, oldest first
+     */
+    public synchronized List<Entry> getPendingEntries() {
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * Finds the pending operation of a given kind involving a profile, to avoid submitting the same audio twice
+     *
+     * @param kind      The kind of operation
+     * @param profileId The profile ID
+     * @return The oldest matching operation, or null if there is none
+     */
+    public synchronized Entry findPending(Kind kind, UUID profileId) {
+        for (Entry entry : pending.values()) {
+            if (entry.kind == kind && entry.profileIds.contains(profileId)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records a submitted operation, returning once the record is on the storage device.
+     * Recording an operation already pending does nothing.
+     *
+     * @param kind       The kind of operation
+     * @param location   The operation location returned by the service
+     * @param profileIds The enrolled profile, or the profiles the speaker is identified against
+     * @throws IOException Signals the record couldn't be written
+     */
+    public synchronized void recordPending(Kind kind, OperationLocation location, List<UUID> profileIds) throws IOException {
+        checkOpen();
+        if (pending.containsKey(location.Url)) {
+            return;
+        }
+        Entry entry = new Entry(kind, location.Url, new ArrayList<>(profileIds), System.currentTimeMillis());
+        writer.write(format(entry));
+        writer.flush();
+        out.getFD().sync();
+        pending.put(entry.location.Url, entry);
+    }
+
+    /**
+     * Records the completion of an operation, which won't be replayed anymore
+     *
+     * @param location The operation location
+     * @throws IOException Signals the record couldn't be written
+     */
+    public synchronized void recordCompleted(OperationLocation location) throws IOException {
+        checkOpen();
+        if (pending.remove(location.Url) == null) {
+            return;
+        }
+        writer.write(seal(COMPLETED + SEPARATOR + location.Url));
+        writer.flush();
+        if (++completedRecords >= COMPACTION_THRESHOLD && completedRecords > pending.size()) {
+            compact();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            out = null;
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (writer == null) {
+            throw new IOException("The journal is closed");
+        }
+    }
+
+    private void replay() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int end = line.lastIndexOf(SEPARATOR);
+                if (end < 0 || !line.substring(end + 1).equals(checksum(line.substring(0, end)))) {
+                    // A record torn by a crash, ignore it
+                    continue;
+                }
+                String[] fields = line.substring(0, end).split(SEPARATOR, -1);
+                try {
+                    if (fields.length == 5 && PENDING.equals(fields[0])) {
+                        Entry entry = new Entry(Kind.valueOf(fields[1]), fields[3], parseIds(fields[4]), Long.parseLong(fields[2]));
+                        pending.put(entry.location.Url, entry);
+                    } else if (fields.length == 2 && COMPLETED.equals(fields[0])) {
+                        pending.remove(fields[1]);
+                    }
+                } catch (IllegalArgumentException e) {
+                    // A record this version can't read, ignore it
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Rewrites the file with the pending records only, replacing it atomically
+     */
+    private void compact() throws IOException {
+        close();
+        File temp = new File(file.getPath() + ".tmp");
+        FileOutputStream tempOut = new FileOutputStream(temp);
+        try {
+            Writer tempWriter = new OutputStreamWriter(tempOut, UTF_8);
+            for (Entry entry : pending.values()) {
+                tempWriter.write(format(entry));
+            }
+            tempWriter.flush();
+            tempOut.getFD().sync();
+        } finally {
+            tempOut.close();
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Couldn't replace " + file);
+        }
+        completedRecords = 0;
+        open();
+    }
+
+    private void open() throws FileNotFoundException {
+        out = new FileOutputStream(file, true);
+        writer = new OutputStreamWriter(out, UTF_8);
+    }
+
+    private static String format(Entry entry) {
+        StringBuilder ids = new StringBuilder();
+        for (UUID id : entry.profileIds) {
+            if (ids.length() > 0) {
+                ids.append(',');
+            }
+            ids.append(id);
+        }
+        return seal(PENDING + SEPARATOR + entry.kind + SEPARATOR + entry.submittedTime + SEPARATOR + entry.location.Url
+                + SEPARATOR + ids);
+    }
+
+    private static String seal(String record) {
+        return record + SEPARATOR + checksum(record) + "\n";
+    }
+
+    private static String checksum(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static List<UUID> parseIds(String ids) {
+        List<UUID> list = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            for (String id : ids.split(",")) {
+                list.add(UUID.fromString(id));
+            }
+        }
+        return list;
+    }
+}
@@ -0,0 +1,78 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Operation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Status;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Blocks the calling thread until an operation reaches a terminal status, checking it on a {@link PollingPolicy} schedule
+ */
+final class OperationPoller {
+
+    /**
+     * A status check of a single operation
+     *
+     * @param <T> The operation type
+     * @param <E> The service exception thrown by the check
+     */
+    interface StatusCheck<T extends Operation, E extends Exception> {
+        T check() throws E, IOException;
+    }
+
+    private OperationPoller() {
+    }
+
+    /**
+     * @param operation The last known state of an operation
+     * @return true if the operation status won't change anymore
+     */
+    static boolean isTerminal(Operation operation) {
+        return operation.status == Status.SUCCEEDED || operation.status == Status.FAILED;
+    }
+
+    /**
+     * Checks an operation until it succeeds or fails. The last check happens at the deadline at the latest.
+     *
+     * @param check   The status check
+     * @param policy  The polling schedule
+     * @param timeout The maximum time to wait
+     * @param unit    The unit of the timeout
+     * @return The terminal operation
+     * @throws E                    Thrown by the status check
+     * @throws IOException          Thrown by the status check
+     * @throws InterruptedException Signals the thread was interrupted while waiting
+     * @throws TimeoutException     Signals the operation didn't complete before the deadline
+     */
+    static <T extends Operation, E extends Exception> T await(StatusCheck<T, E> check, PollingPolicy policy,
+                                                              long timeout, TimeUnit unit)
+            throws E, IOException, InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long delay = policy.getInitialDelay(TimeUnit.NANOSECONDS);
+        Status lastStatus = null;
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("The operation didn't complete within " + timeout + " " + unit);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, policy.jitter(delay, ThreadLocalRandom.current())));
+
+            T operation = check.check();
+            if (operation == null || operation.status == null) {
+                throw new IOException("Empty operation status response");
+            }
+            if (isTerminal(operation)) {
+                return operation;
+            }
+            if (lastStatus == Status.NOTSTARTED && operation.status == Status.RUNNING) {
+                delay = policy.getInitialDelay(TimeUnit.NANOSECONDS);
+            } else {
+                delay = policy.nextDelayNanos(delay);
+            }
+            lastStatus = operation.status;
+        }
+    }
+}
@@ -0,0 +1,511 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.identification.EnrollmentOperation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationOperation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Operation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.OperationLocation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Status;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls any number of pending enrollment and identification operations with a constant number of threads.
+ * <p>
+ * A single timer thread keeps the pending operations in a hashed timer wheel. On every tick the operations due
+ * are collected and their status checks are issued through the client's asynchronous methods, at most
+ * a given number at a time, further due checks waiting for a free slot. Each operation is checked on its
+ * {@link PollingPolicy} schedule until its status is SUCCEEDED or FAILED, which completes the future returned
+ * to the caller, or until its deadline passes.
+ * <p>
+ * The engine is thread safe. Call {@link #shutdown()} to stop the timer thread once it is no longer needed.
+ */
+public final class OperationPollingEngine {
+
+    /**
+     * Number of wheel buckets, operations due more than a full turn ahead stay in their bucket for several turns
+     */
+    private static final int WHEEL_SIZE = 512;
+
+    private final SpeakerIdentificationClient client;
+    private final PollingPolicy pollingPolicy;
+    private final int maxConcurrentChecks;
+    private final long tickNanos;
+    private final OperationJournal journal;
+
+    private final Set<PendingOperation<?>> pending = Collections.newSetFromMap(new ConcurrentHashMap<PendingOperation<?>, Boolean>());
+    private final Queue<PendingOperation<?>> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger checksInFlight = new AtomicInteger();
+    private final Object monitor = new Object();
+    private final Thread timerThread;
+    private volatile boolean shutdown;
+    private volatile boolean backlogged;
+    private boolean slotReleased;
+
+    // Owned by the timer thread
+    private final List<List<PendingOperation<?>>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final Queue<PendingOperation<?>> ready = new ArrayDeque<>();
+    private final long startNanos = System.nanoTime();
+    private int wheelCount;
+    private long tick;
+
+    private OperationPollingEngine(Builder builder) {
+        this.client = builder.client;
+        this.pollingPolicy = builder.pollingPolicy;
+        this.maxConcurrentChecks = builder.maxConcurrentChecks;
+        this.tickNanos = builder.tickNanos;
+        this.journal = builder.journal;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<PendingOperation<?>>());
+        }
+        timerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runTimer();
+            }
+        }, "OperationPollingEngine");
+        timerThread.setDaemon(true);
+        timerThread.start();
+    }
+
+    public static class Builder {
+
+        private final SpeakerIdentificationClient client;
+        private PollingPolicy pollingPolicy = PollingPolicy.DEFAULT;
+        private int maxConcurrentChecks = 16;
+        private long tickNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        private OperationJournal journal;
+
+        /**
+         * @param client The client whose asynchronous status checks are used
+         */
+        public Builder(SpeakerIdentificationClient client) {
+            this.client = client;
+        }
+
+        /**
+         * Sets the schedule on which each operation is checked. Defaults to {@link PollingPolicy#DEFAULT}.
+         *
+         * @param pollingPolicy The polling schedule
+         * @return This builder
+         */
+        public Builder setPollingPolicy(PollingPolicy pollingPolicy) {
+            this.pollingPolicy = pollingPolicy;
+            return this;
+        }
+
+        /**
+         * Sets how many status checks may be in flight at once. Defaults to 16.
+         *
+         * @param maxConcurrentChecks The maximum number of concurrent status checks
+         * @return This builder
+         */
+        public Builder setMaxConcurrentChecks(int maxConcurrentChecks) {
+            if (maxConcurrentChecks < 1) {
+                throw new IllegalArgumentException("maxConcurrentChecks < 1");
+            }
+            this.maxConcurrentChecks = maxConcurrentChecks;
+            return this;
+        }
+
+        /**
+         * Sets the resolution of the timer wheel, status checks being issued up to one tick late. Defaults to 50 ms.
+         *
+         * @param tickDuration The tick duration
+         * @param unit         The unit of the duration
+         * @return This builder
+         */
+        public Builder setTickDuration(long tickDuration, TimeUnit unit) {
+            if (tickDuration <= 0) {
+                throw new IllegalArgumentException("tickDuration <= 0");
+            }
+            this.tickNanos = unit.toNanos(tickDuration);
+            return this;
+        }
+
+        /**
+         * Sets the journal recording the operations being polled, so they can be resumed with
+         * {@link OperationPollingEngine#resumeJournal(long, TimeUnit)} after a restart. None by default.
+         *
+         * @param journal The journal
+         * @return This builder
+         */
+        public Builder setJournal(OperationJournal journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        public OperationPollingEngine build() {
+            return new OperationPollingEngine(this);
+        }
+    }
+
+    /**
+     * Polls an enrollment operation until it succeeds or fails
+     *
+     * @param location The Url returned upon calling the enrollment operation
+     * @param timeout  The maximum time to wait
+     * @param unit     The unit of the timeout
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the terminal enrollment operation, or failed with an
+     * {@link com.microsoft.cognitive.speakerrecognition.contract.EnrollmentException}, an {@link IOException}
+     * or a {@link TimeoutException}. Cancelling it stops the polling.
+     */
+    public ServiceFuture<EnrollmentOperation> awaitEnrollment(OperationLocation location, long timeout, TimeUnit unit,
+                                                              ServiceCallback<? super EnrollmentOperation> callback) {
+        return awaitEnrollment(location, null, timeout, unit, callback);
+    }
+
+    /**
+     * Polls an enrollment operation until it succeeds or fails, recording it in the journal if there is one
+     *
+     * @param location  The Url returned upon calling the enrollment operation
+     * @param profileId The enrolled profile ID recorded in the journal, may be null
+     * @param timeout   The maximum time to wait
+     * @param unit      The unit of the timeout
+     * @param callback  An optional callback notified on completion, may be null
+     * @return A future completed with the terminal enrollment operation, or failed with an
+     * {@link com.microsoft.cognitive.speakerrecognition.contract.EnrollmentException}, an {@link IOException}
+     * or a {@link TimeoutException}. Cancelling it stops the polling.
+     */
+    public ServiceFuture<EnrollmentOperation> awaitEnrollment(OperationLocation location, UUID profileId, long timeout, TimeUnit unit,
+                                                              ServiceCallback<? super EnrollmentOperation> callback) {
+        List<UUID> profileIds = profileId == null ? Collections.<UUID>emptyList() : Collections.singletonList(profileId);
+        return submit(new PendingOperation<EnrollmentOperation>(OperationJournal.Kind.ENROLLMENT, location, profileIds, unit.toNanos(timeout)) {
+            @Override
+            ServiceFuture<EnrollmentOperation> check(ServiceCallback<EnrollmentOperation> callback) {
+                return client.checkEnrollmentStatusAsync(location, callback);
+            }
+        }, callback);
+    }
+
+    /**
+     * Polls an identification operation until it succeeds or fails
+     *
+     * @param location The Url returned upon calling the identification operation
+     * @param timeout  The maximum time to wait
+     * @param unit     The unit of the timeout
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the terminal identification operation, or failed with an
+     * {@link com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationException},
+     * an {@link IOException} or a {@link TimeoutException}. Cancelling it stops the polling.
+     */
+    public ServiceFuture<IdentificationOperation> awaitIdentification(OperationLocation location, long timeout, TimeUnit unit,
+                                                                      ServiceCallback<? super IdentificationOperation> callback) {
+        return awaitIdentification(location, null, timeout, unit, callback);
+    }
+
+    /**
+     * Polls an identification operation until it succeeds or fails, recording it in the journal if there is one
+     *
+     * @param location   The Url returned upon calling the identification operation
+     * @param profileIds The profile IDs the speaker is identified against recorded in the journal, may be null
+     * @param timeout    The maximum time to wait
+     * @param unit       The unit of the timeout
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the terminal identification operation, or failed with an
+     * {@link com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationException},
+     * an {@link IOException} or a {@link TimeoutException}. Cancelling it stops the polling.
+     */
+    public ServiceFuture<IdentificationOperation> awaitIdentification(OperationLocation location, List<UUID> profileIds, long timeout, TimeUnit unit,
+                                                                      ServiceCallback<? super IdentificationOperation> callback) {
+        if (profileIds == null) {
+            profileIds = Collections.emptyList();
+        }
+        return submit(new PendingOperation<IdentificationOperation>(OperationJournal.Kind.IDENTIFICATION, location, profileIds, unit.toNanos(timeout)) {
+            @Override
+            ServiceFuture<IdentificationOperation> check(ServiceCallback<IdentificationOperation> callback) {
+                return client.checkIdentificationStatusAsync(location, callback);
+            }
+        }, callback);
+    }
+
+    /**
+     * Resumes polling the operations the journal records as pending, typically on startup.
+     * The futures of enrollment entries complete with an {@link EnrollmentOperation}, those of identification entries
+     * with an {@link IdentificationOperation}.
+     *
+     * @param timeout The maximum time to wait for each operation
+     * @param unit    The unit of the timeout
+     * @return The future of each resumed operation, oldest first, or an empty map if the engine has no journal
+     */
+    public Map<OperationJournal.Entry, ServiceFuture<? extends Operation>> resumeJournal(long timeout, TimeUnit unit) {
+        Map<OperationJournal.Entry, ServiceFuture<? extends Operation>> resumed = new LinkedHashMap<>();
+        if (journal == null) {
+            return resumed;
+        }
+        for (OperationJournal.Entry entry : journal.getPendingEntries()) {
+            if (entry.getKind() == OperationJournal.Kind.ENROLLMENT) {
+                UUID profileId = entry.getProfileIds().isEmpty() ? null : entry.getProfileIds().get(0);
+                resumed.put(entry, awaitEnrollment(entry.getLocation(), profileId, timeout, unit, null));
+            } else {
+                resumed.put(entry, awaitIdentification(entry.getLocation(), entry.getProfileIds(), timeout, unit, null));
+            }
+        }
+        return resumed;
+    }
+
+    /**
+     * @return The number of operations being polled
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops the timer thread and cancels the operations being polled, which stay pending in the journal
+     */
+    public void shutdown() {
+        shutdown = true;
+        timerThread.interrupt();
+        for (PendingOperation<?> operation : pending) {
+            operation.cancel(true);
+        }
+    }
+
+    private <T extends Operation> ServiceFuture<T> submit(PendingOperation<T> operation, ServiceCallback<? super T> callback) {
+        if (callback != null) {
+            operation.addCallback(callback);
+        }
+        if (shutdown) {
+            operation.setException(new RejectedExecutionException("The polling engine is shut down"));
+            return operation;
+        }
+        if (journal != null) {
+            try {
+                journal.recordPending(operation.kind, operation.location, operation.profileIds);
+            } catch (IOException e) {
+                // The operation keeps running on the service, awaiting it again retries recording it
+                operation.setException(e);
+                return operation;
+            }
+        }
+        pending.add(operation);
+        operation.scheduleAfter(operation.delayNanos);
+        return operation;
+    }
+
+    /**
+     * Removes a completed operation from the journal
+     */
+    private void recordCompleted(PendingOperation<?> operation) {
+        if (journal != null) {
+            try {
+                journal.recordCompleted(operation.location);
+            } catch (IOException e) {
+                // The operation stays pending in the journal and is checked once more when it is resumed
+            }
+        }
+    }
+
+    private void releaseSlot() {
+        checksInFlight.decrementAndGet();
+        if (backlogged) {
+            // Due checks are waiting for a slot, dispatch them now rather than on the next tick
+            synchronized (monitor) {
+                slotReleased = true;
+                monitor.notify();
+            }
+        }
+    }
+
+    private void schedule(PendingOperation<?> operation) {
+        scheduled.offer(operation);
+        synchronized (monitor) {
+            monitor.notify();
+        }
+    }
+
+    private void runTimer() {
+        try {
+            while (!shutdown) {
+                synchronized (monitor) {
+                    while (!shutdown && wheelCount == 0 && ready.isEmpty() && scheduled.isEmpty()) {
+                        monitor.wait();
+                    }
+                }
+                long now = System.nanoTime();
+                long currentTick = (now - startNanos) / tickNanos;
+                if (wheelCount == 0) {
+                    // Nothing was waiting in the wheel, skip the ticks elapsed while idle
+                    tick = currentTick;
+                }
+                while (tick < currentTick) {
+                    tick++;
+                    transferScheduled();
+                    expireBucket();
+                }
+                transferScheduled();
+                dispatchReady();
+
+                backlogged = !ready.isEmpty();
+                synchronized (monitor) {
+                    long sleepNanos = startNanos + (tick + 1) * tickNanos - System.nanoTime();
+                    if (sleepNanos > 0 && !slotReleased) {
+                        TimeUnit.NANOSECONDS.timedWait(monitor, sleepNanos);
+                    }
+                    slotReleased = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Shut down
+        }
+    }
+
+    private void transferScheduled() {
+        PendingOperation<?> operation;
+        while ((operation = scheduled.poll()) != null) {
+            if (operation.isDone()) {
+                continue;
+            }
+            long dueTick = Math.max(tick + 1, (operation.dueNanos - startNanos + tickNanos - 1) / tickNanos);
+            operation.dueTick = dueTick;
+            wheel.get((int) (dueTick % WHEEL_SIZE)).add(operation);
+            wheelCount++;
+        }
+    }
+
+    private void expireBucket() {
+        List<PendingOperation<?>> bucket = wheel.get((int) (tick % WHEEL_SIZE));
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            PendingOperation<?> operation = bucket.get(i);
+            if (operation.isDone()) {
+                wheelCount--;
+            } else if (operation.dueTick <= tick) {
+                ready.add(operation);
+                wheelCount--;
+            } else {
+                bucket.set(kept++, operation);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private void dispatchReady() {
+        while (!ready.isEmpty() && checksInFlight.get() < maxConcurrentChecks) {
+            PendingOperation<?> operation = ready.poll();
+            if (!operation.isDone()) {
+                checksInFlight.incrementAndGet();
+                operation.dispatch();
+            }
+        }
+    }
+
+    /**
+     * An operation being polled, which is also the future returned to the caller
+     */
+    private abstract class PendingOperation<T extends Operation> extends ServiceFuture<T> implements ServiceCallback<T> {
+
+        final OperationJournal.Kind kind;
+        final OperationLocation location;
+        final List<UUID> profileIds;
+        final long deadlineNanos;
+        long delayNanos = pollingPolicy.getInitialDelay(TimeUnit.NANOSECONDS);
+        Status lastStatus;
+        volatile long dueNanos;
+        long dueTick;
+        private volatile ServiceFuture<T> inFlight;
+
+        PendingOperation(OperationJournal.Kind kind, OperationLocation location, List<UUID> profileIds, long timeoutNanos) {
+            this.kind = kind;
+            this.location = location;
+            this.profileIds = profileIds;
+            this.deadlineNanos = System.nanoTime() + timeoutNanos;
+        }
+
+        abstract ServiceFuture<T> check(ServiceCallback<T> callback);
+
+        void scheduleAfter(long delayNanos) {
+            long now = System.nanoTime();
+            dueNanos = Math.min(deadlineNanos, now + pollingPolicy.jitter(delayNanos, ThreadLocalRandom.current()));
+            schedule(this);
+        }
+
+        void dispatch() {
+            try {
+                inFlight = check(this);
+            } catch (RuntimeException e) {
+                onFailure(e);
+            }
+        }
+
+        @Override
+        public void onSuccess(T operation) {
+            releaseSlot();
+            inFlight = null;
+            if (operation == null || operation.status == null) {
+                setException(new IOException("Empty operation status response"));
+            } else if (OperationPoller.isTerminal(operation)) {
+                set(operation);
+            } else if (System.nanoTime() - deadlineNanos >= 0) {
+                setException(new TimeoutException("The operation didn't complete in time: " + location.Url));
+            } else {
+                if (lastStatus == Status.NOTSTARTED && operation.status == Status.RUNNING) {
+                    delayNanos = pollingPolicy.getInitialDelay(TimeUnit.NANOSECONDS);
+                } else {
+                    delayNanos = pollingPolicy.nextDelayNanos(delayNanos);
+                }
+                lastStatus = operation.status;
+                scheduleAfter(delayNanos);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception exception) {
+            releaseSlot();
+            inFlight = null;
+            setException(exception);
+        }
+
+        @Override
+        public boolean set(T result) {
+            pending.remove(this);
+            if (!super.set(result)) {
+                return false;
+            }
+            recordCompleted(this);
+            return true;
+        }
+
+        @Override
+        public boolean setException(Exception exception) {
+            pending.remove(this);
+            if (!super.setException(exception)) {
+                return false;
+            }
+            if (!(exception instanceof IOException) && !(exception instanceof TimeoutException)) {
+                // The service rejected the status check, the operation can't be resumed
+                recordCompleted(this);
+            }
+            return true;
+        }
+
+        @Override
+        protected void onCancelled(boolean mayInterruptIfRunning) {
+            pending.remove(this);
+            if (!shutdown) {
+                recordCompleted(this);
+            }
+            ServiceFuture<T> check = inFlight;
+            if (check != null) {
+                check.cancel(mayInterruptIfRunning);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Operation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.OperationLocation;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent status checks of the same operation into a single request and remembers the operations
+ * which reached a terminal status, since those never change.
+ * <p>
+ * Callers checking a location already being checked share the pending request, each getting a future of its own
+ * so cancelling it doesn't affect the others. Terminal operations are kept in a least recently used map of bounded
+ * size and returned to every later caller as the same instance.
+ *
+ * @param <T> The operation type
+ * @param <E> The service exception thrown by status checks
+ */
+final class OperationStatusCache<T extends Operation, E extends Exception> {
+
+    /**
+     * A blocking status check
+     */
+    interface StatusCheck<T, E extends Exception> {
+        T check() throws E, IOException;
+    }
+
+    /**
+     * An asynchronous status check
+     */
+    interface AsyncStatusCheck<T> {
+        ServiceFuture<T> check(ServiceCallback<T> callback);
+    }
+
+    private final Class<E> exceptionType;
+    private final Map<String, ServiceFuture<T>> inFlight = new HashMap<>();
+    private final Map<String, T> terminal;
+
+    /**
+     * @param exceptionType      The service exception thrown by status checks
+     * @param maxTerminalEntries The maximum number of terminal operations remembered
+     */
+    OperationStatusCache(Class<E> exceptionType, final int maxTerminalEntries) {
+        this.exceptionType = exceptionType;
+        this.terminal = new LinkedHashMap<String, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > maxTerminalEntries;
+            }
+        };
+    }
+
+    /**
+     * Checks the status of an operation on the calling thread, unless it is terminal or already being checked
+     *
+     * @param location The operation location
+     * @param check    The status check
+     * @return The operation
+     * @throws E           Thrown by the status check
+     * @throws IOException Thrown by the status check, or signals the thread was interrupted while waiting for
+     *                     the check of another caller
+     */
+    T get(OperationLocation location, StatusCheck<T, E> check) throws E, IOException {
+        ServiceFuture<T> shared;
+        ServiceFuture<T> own = null;
+        synchronized (this) {
+            T operation = terminal.get(location.Url);
+            if (operation != null) {
+                return operation;
+            }
+            shared = inFlight.get(location.Url);
+            if (shared == null) {
+                shared = own = new ServiceFuture<>();
+                inFlight.put(location.Url, own);
+            }
+        }
+
+        if (own != null) {
+            try {
+                T operation = check.check();
+                complete(location, own, operation);
+                return operation;
+            } catch (Exception e) {
+                fail(location, own, e);
+                throw e;
+            }
+        }
+
+        try {
+            return shared.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the operation status");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Checks the status of an operation asynchronously, unless it is terminal or already being checked
+     *
+     * @param location The operation location
+     * @param check    The asynchronous status check
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future of the operation owned by the caller
+     */
+    ServiceFuture<T> getAsync(final OperationLocation location, AsyncStatusCheck<T> check, ServiceCallback<? super T> callback) {
+        ServiceFuture<T> result = new ServiceFuture<>();
+        if (callback != null) {
+            result.addCallback(callback);
+        }
+
+        ServiceFuture<T> shared;
+        boolean leader = false;
+        synchronized (this) {
+            T operation = terminal.get(location.Url);
+            if (operation != null) {
+                result.set(operation);
+                return result;
+            }
+            shared = inFlight.get(location.Url);
+            if (shared == null) {
+                shared = new ServiceFuture<>();
+                inFlight.put(location.Url, shared);
+                leader = true;
+            }
+        }
+        forward(shared, result);
+
+        if (leader) {
+            final ServiceFuture<T> own = shared;
+            try {
+                check.check(new ServiceCallback<T>() {
+                    @Override
+                    public void onSuccess(T operation) {
+                        complete(location, own, operation);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        fail(location, own, exception);
+                    }
+                });
+            } catch (RuntimeException e) {
+                fail(location, own, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remembers an operation known to be terminal, e.g. one returned again for identical audio
+     *
+     * @param location  The operation location
+     * @param operation The terminal operation
+     */
+    synchronized void remember(OperationLocation location, T operation) {
+        terminal.put(location.Url, operation);
+    }
+
+    private void complete(OperationLocation location, ServiceFuture<T> shared, T operation) {
+        synchronized (this) {
+            inFlight.remove(location.Url);
+            if (operation != null && OperationPoller.isTerminal(operation)) {
+                terminal.put(location.Url, operation);
+            }
+        }
+        shared.set(operation);
+    }
+
+    private void fail(OperationLocation location, ServiceFuture<T> shared, Exception exception) {
+        synchronized (this) {
+            inFlight.remove(location.Url);
+        }
+        shared.setException(exception);
+    }
+
+    private static <T> void forward(ServiceFuture<T> from, final ServiceFuture<T> to) {
+        from.addCallback(new ServiceCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                to.set(result);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                to.setException(exception);
+            }
+        });
+    }
+}
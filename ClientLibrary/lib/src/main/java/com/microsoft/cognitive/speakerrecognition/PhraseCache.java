@@ -0,0 +1,228 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.verification.VerificationPhrase;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the verification phrases of each locale in memory and optionally on disk, since they hardly ever change.
+ * <p>
+ * Cached phrases are returned immediately, even once they are due for a refresh, in which case they are refreshed
+ * in the background for the next lookup. On a cold start the phrases are read back from disk. A file holds the
+ * time the phrases were fetched on its first line, then one phrase per line. Files are replaced atomically, and a
+ * file which can't be read is ignored. Cached phrases are shared between callers and must not be modified.
+ */
+final class PhraseCache {
+
+    /**
+     * An asynchronous fetch of the phrases of a locale
+     */
+    interface PhraseFetch {
+        ServiceFuture<List<VerificationPhrase>> fetch(String locale, ServiceCallback<List<VerificationPhrase>> callback);
+    }
+
+    private static final class Cached {
+
+        final List<VerificationPhrase> phrases;
+        final long fetchedTime;
+
+        Cached(List<VerificationPhrase> phrases, long fetchedTime) {
+            this.phrases = phrases;
+            this.fetchedTime = fetchedTime;
+        }
+    }
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final boolean enabled;
+    private final File directory;
+    private final long refreshAfterMillis;
+    private final Map<String, Cached> phrases = new HashMap<>();
+    private final Set<String> refreshing = new HashSet<>();
+    private final Object fileLock = new Object();
+
+    /**
+     * @param enabled      false to remember nothing
+     * @param directory    The directory the phrases are persisted in, or null to keep them in memory only
+     * @param refreshAfter The age after which cached phrases are refreshed in the background
+     * @param unit         The unit of the refresh age
+     */
+    PhraseCache(boolean enabled, File directory, long refreshAfter, TimeUnit unit) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.refreshAfterMillis = unit.toMillis(refreshAfter);
+    }
+
+    /**
+     * Gets the cached phrases of a locale, refreshing them in the background when they are due
+     *
+     * @param locale The locale
+     * @param fetch  The fetch refreshing the phrases
+     * @return A copy of the cached phrases, or null if none are cached
+     */
+    List<VerificationPhrase> get(final String locale, PhraseFetch fetch) {
+        if (!enabled) {
+            return null;
+        }
+        Cached cached;
+        boolean refresh = false;
+        synchronized (this) {
+            cached = phrases.get(locale);
+        }
+        if (cached == null) {
+            cached = load(locale);
+            if (cached == null) {
+                return null;
+            }
+            synchronized (this) {
+                if (!phrases.containsKey(locale)) {
+                    phrases.put(locale, cached);
+                }
+            }
+        }
+        if (System.currentTimeMillis() - cached.fetchedTime >= refreshAfterMillis) {
+            synchronized (this) {
+                refresh = refreshing.add(locale);
+            }
+        }
+        if (refresh) {
+            refresh(locale, fetch);
+        }
+        return new ArrayList<>(cached.phrases);
+    }
+
+    /**
+     * Remembers the phrases of a locale just fetched, persisting them if a directory is set
+     *
+     * @param locale  The locale
+     * @param fetched The phrases
+     */
+    void put(String locale, List<VerificationPhrase> fetched) {
+        if (!enabled || fetched == null) {
+            return;
+        }
+        Cached cached = new Cached(new ArrayList<>(fetched), System.currentTimeMillis());
+        synchronized (this) {
+            phrases.put(locale, cached);
+        }
+        store(locale, cached);
+    }
+
+    private void refresh(final String locale, PhraseFetch fetch) {
+        ServiceCallback<List<VerificationPhrase>> callback = new ServiceCallback<List<VerificationPhrase>>() {
+            @Override
+            public void onSuccess(List<VerificationPhrase> fetched) {
+                put(locale, fetched);
+                refreshed(locale);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                // Keep serving the cached phrases, the next lookup retries
+                refreshed(locale);
+            }
+        };
+        try {
+            fetch.fetch(locale, callback);
+        } catch (RuntimeException e) {
+            refreshed(locale);
+        }
+    }
+
+    private synchronized void refreshed(String locale) {
+        refreshing.remove(locale);
+    }
+
+    private File fileOf(String locale) {
+        return new File(directory, "phrases-" + locale.replaceAll("[^A-Za-z0-9_-]", "_") + ".txt");
+    }
+
+    private Cached load(String locale) {
+        if (directory == null) {
+            return null;
+        }
+        File file = fileOf(locale);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8));
+            try {
+                String header = reader.readLine();
+                if (header == null) {
+                    return null;
+                }
+                long fetchedTime = Long.parseLong(header);
+                List<VerificationPhrase> loaded = new ArrayList<>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    VerificationPhrase phrase = new VerificationPhrase();
+                    phrase.phrase = line;
+                    loaded.add(phrase);
+                }
+                return new Cached(loaded, fetchedTime);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void store(String locale, Cached cached) {
+        if (directory == null) {
+            return;
+        }
+        synchronized (fileLock) {
+            Cached latest;
+            synchronized (this) {
+                latest = phrases.get(locale);
+            }
+            if (latest == cached) {
+                write(locale, cached);
+            }
+        }
+    }
+
+    private void write(String locale, Cached cached) {
+        File file = fileOf(locale);
+        File temp = new File(file.getPath() + ".tmp");
+        directory.mkdirs();
+        try {
+            Writer writer = new OutputStreamWriter(new FileOutputStream(temp), UTF_8);
+            try {
+                writer.write(Long.toString(cached.fetchedTime));
+                writer.write('\n');
+                for (VerificationPhrase phrase : cached.phrases) {
+                    if (phrase != null && phrase.phrase != null) {
+                        writer.write(phrase.phrase.replace('\n', ' '));
+                        writer.write('\n');
+                    }
+                }
+            } finally {
+                writer.close();
+            }
+            if (!temp.renameTo(file)) {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            // The phrases stay cached in memory, they are fetched again on the next cold start
+            temp.delete();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The schedule used to poll an enrollment or identification operation until it completes.
+ * <p>
+ * The first probes follow each other quickly, as short audio is usually processed within a second or two, after which
+ * the delay grows exponentially up to a maximum. Every delay is randomized by the jitter fraction, so operations
+ * submitted together don't poll the service in lockstep. Once an operation moves from
+ * {@link com.microsoft.cognitive.speakerrecognition.contract.identification.Status#NOTSTARTED} to
+ * {@link com.microsoft.cognitive.speakerrecognition.contract.identification.Status#RUNNING} the schedule restarts
+ * from the initial delay, since a started operation completes shortly.
+ */
+public final class PollingPolicy {
+
+    /**
+     * Polls after 500 ms, then backs off by half of the delay up to 5 seconds, with 25% jitter
+     */
+    public static final PollingPolicy DEFAULT = new Builder().build();
+
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+
+    private PollingPolicy(Builder builder) {
+        this.initialDelayNanos = builder.initialDelayNanos;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+    }
+
+    /**
+     * @param unit The unit of the returned delay
+     * @return The delay before the first status check
+     */
+    public long getInitialDelay(TimeUnit unit) {
+        return unit.convert(initialDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit The unit of the returned delay
+     * @return The maximum delay between two status checks, before jitter
+     */
+    public long getMaxDelay(TimeUnit unit) {
+        return unit.convert(maxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The factor applied to the delay after each status check
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @return The fraction by which each delay is randomly lengthened or shortened
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Computes the delay following a given one
+     *
+     * @param delayNanos The previous delay, before jitter
+     * @return The next delay, before jitter
+     */
+    long nextDelayNanos(long delayNanos) {
+        return (long) Math.min(maxDelayNanos, delayNanos * multiplier);
+    }
+
+    /**
+     * Randomizes a delay by the jitter fraction
+     *
+     * @param delayNanos The delay
+     * @param random     The source of randomness
+     * @return The randomized delay
+     */
+    long jitter(long delayNanos, Random random) {
+        return (long) (delayNanos * (1 - jitter + 2 * jitter * random.nextDouble()));
+    }
+
+    public static class Builder {
+
+        private long initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(500);
+        private long maxDelayNanos = TimeUnit.SECONDS.toNanos(5);
+        private double multiplier = 1.5;
+        private double jitter = 0.25;
+
+        /**
+         * Sets the delay before the first status check. Defaults to 500 ms.
+         *
+         * @param initialDelay The delay
+         * @param unit         The unit of the delay
+         * @return This builder
+         */
+        public Builder setInitialDelay(long initialDelay, TimeUnit unit) {
+            if (initialDelay <= 0) {
+                throw new IllegalArgumentException("initialDelay <= 0");
+            }
+            this.initialDelayNanos = unit.toNanos(initialDelay);
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay between two status checks. Defaults to 5 seconds.
+         *
+         * @param maxDelay The delay
+         * @param unit     The unit of the delay
+         * @return This builder
+         */
+        public Builder setMaxDelay(long maxDelay, TimeUnit unit) {
+            if (maxDelay <= 0) {
+                throw new IllegalArgumentException("maxDelay <= 0");
+            }
+            this.maxDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Sets the factor applied to the delay after each status check. Defaults to 1.5.
+         *
+         * @param multiplier The factor, at least 1
+         * @return This builder
+         */
+        public Builder setMultiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("multiplier < 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the fraction by which each delay is randomly lengthened or shortened. Defaults to 0.25.
+         *
+         * @param jitter The fraction, between 0 and 1
+         * @return This builder
+         */
+        public Builder setJitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        public PollingPolicy build() {
+            if (maxDelayNanos < initialDelayNanos) {
+                throw new IllegalStateException("maxDelay < initialDelay");
+            }
+            return new PollingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the profiles read from the service for a limited time, so repeated reads don't hit the network.
+ * <p>
+ * Profiles are kept in a least recently used map of bounded size, along with the last full profile list.
+ * The owning client invalidates a profile once the service answered a call changing it. Reads started before an
+ * invalidation don't store their result, since it may predate the change. Cached profiles are shared between
+ * callers and must not be modified.
+ *
+ * @param <P> The profile type
+ */
+final class ProfileCache<P> {
+
+    /**
+     * Extracts the ID of a profile
+     */
+    interface ProfileIds<P> {
+        UUID idOf(P profile);
+    }
+
+    private static final class Cached<V> {
+
+        final V value;
+        final long expiresAtNanos;
+
+        Cached(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private final ProfileIds<P> profileIds;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<UUID, Cached<P>> profiles;
+    private Cached<List<P>> allProfiles;
+    private long version;
+
+    /**
+     * @param profileIds The ID extractor of the profile type
+     * @param maxEntries The maximum number of profiles remembered, 0 disables the cache
+     * @param ttl        The time a profile is remembered
+     * @param unit       The unit of the time to live
+     */
+    ProfileCache(ProfileIds<P> profileIds, final int maxEntries, long ttl, TimeUnit unit) {
+        this.profileIds = profileIds;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.profiles = new LinkedHashMap<UUID, Cached<P>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Cached<P>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return A token to pass when storing the result of a read started now
+     */
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * @param id The profile ID
+     * @return The profile, or null if it isn't remembered or has expired
+     */
+    synchronized P get(UUID id) {
+        Cached<P> cached = profiles.get(id);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtNanos - System.nanoTime() <= 0) {
+            profiles.remove(id);
+            return null;
+        }
+        return cached.value;
+    }
+
+    /**
+     * @return A copy of the full profile list, or null if it isn't remembered or has expired
+     */
+    synchronized List<P> getAll() {
+        if (allProfiles == null) {
+            return null;
+        }
+        if (allProfiles.expiresAtNanos - System.nanoTime() <= 0) {
+            allProfiles = null;
+            return null;
+        }
+        return new ArrayList<>(allProfiles.value);
+    }
+
+    /**
+     * Remembers a profile, unless it was invalidated since the read started
+     *
+     * @param profile     The profile read
+     * @param readVersion The {@link #version()} when the read started
+     */
+    synchronized void put(P profile, long readVersion) {
+        if (maxEntries == 0 || profile == null || readVersion != version) {
+            return;
+        }
+        profiles.put(profileIds.idOf(profile), new Cached<>(profile, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Remembers the full profile list and each of its profiles, unless a profile was invalidated since the read started
+     *
+     * @param all         The profiles read
+     * @param readVersion The {@link #version()} when the read started
+     */
+    synchronized void putAll(List<P> all, long readVersion) {
+        if (maxEntries == 0 || all == null || readVersion != version) {
+            return;
+        }
+        long expiresAtNanos = System.nanoTime() + ttlNanos;
+        allProfiles = new Cached<List<P>>(new ArrayList<>(all), expiresAtNanos);
+        for (P profile : all) {
+            profiles.put(profileIds.idOf(profile), new Cached<>(profile, expiresAtNanos));
+        }
+    }
+
+    /**
+     * Forgets a profile changed or deleted on the service, and the full profile list including it
+     *
+     * @param id The profile ID
+     */
+    synchronized void invalidate(UUID id) {
+        version++;
+        profiles.remove(id);
+        allProfiles = null;
+    }
+
+    /**
+     * Forgets the full profile list, e.g. once a profile is created
+     */
+    synchronized void invalidateList() {
+        version++;
+        allProfiles = null;
+    }
+
+    /**
+     * Forgets everything, when a change can't be attributed to a profile
+     */
+    synchronized void clear() {
+        version++;
+        profiles.clear();
+        allProfiles = null;
+    }
+}
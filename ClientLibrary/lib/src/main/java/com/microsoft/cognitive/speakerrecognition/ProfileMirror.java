@@ -0,0 +1,231 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.GetProfileException;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Profile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local mirror of the identification profiles of an account, reporting only the profiles which changed
+ * between two synchronizations.
+ * <p>
+ * The service only lists all profiles at once, so each synchronization still fetches the full list. It is then
+ * compared with the mirror, a profile being considered changed when its last action time or its enrollment status
+ * differs, and listeners only receive the profiles added, changed or removed. Lookups are answered by the mirror
+ * without any request.
+ * <p>
+ * Synchronizations are applied one at a time and listeners are notified in order, on the thread applying the
+ * synchronization. A listener throwing neither keeps the others from being notified nor fails the synchronization.
+ * A list fetched before the one last applied is discarded. When the client caches profiles, changes are seen once
+ * the cached list expires.
+ */
+public final class ProfileMirror {
+
+    /**
+     * Notified of the profiles changed by a synchronization
+     */
+    public interface Listener {
+
+        /**
+         * @param delta The profiles added, changed or removed, never empty
+         */
+        void onProfilesChanged(Delta delta);
+    }
+
+    /**
+     * The profiles added, changed or removed by a synchronization
+     */
+    public static final class Delta {
+
+        private final List<Profile> added;
+        private final List<Profile> changed;
+        private final List<Profile> removed;
+
+        private Delta(List<Profile> added, List<Profile> changed, List<Profile> removed) {
+            this.added = Collections.unmodifiableList(added);
+            this.changed = Collections.unmodifiableList(changed);
+            this.removed = Collections.unmodifiableList(removed);
+        }
+
+        /**
+         * @return The profiles which weren't mirrored yet
+         */
+        public List<Profile> getAdded() {
+            return added;
+        }
+
+        /**
+         * @return The new state of the profiles whose last action time or enrollment status changed
+         */
+        public List<Profile> getChanged() {
+            return changed;
+        }
+
+        /**
+         * @return The last mirrored state of the profiles which don't exist anymore
+         */
+        public List<Profile> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * @return Whether no profile changed
+         */
+        public boolean isEmpty() {
+            return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "added=" + added.size() + " changed=" + changed.size() + " removed=" + removed.size();
+        }
+    }
+
+    private final SpeakerIdentificationClient client;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Object syncLock = new Object();
+    private final AtomicLong syncSequence = new AtomicLong();
+    private long appliedSequence;
+    private volatile Map<UUID, Profile> profiles = Collections.emptyMap();
+
+    /**
+     * @param client The client listing the profiles
+     */
+    public ProfileMirror(SpeakerIdentificationClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @param listener The listener notified of the changes found by later synchronizations
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener The listener not to notify anymore
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Fetches the profiles and applies their changes to the mirror
+     *
+     * @return The profiles added, changed or removed since the previous synchronization
+     * @throws GetProfileException Thrown in case of an internal server error
+     * @throws IOException         Signals a connection abortion, or an invalid response content
+     */
+    public Delta sync() throws GetProfileException, IOException {
+        long sequence = syncSequence.incrementAndGet();
+        return apply(sequence, client.getProfiles());
+    }
+
+    /**
+     * Asynchronously fetches the profiles and applies their changes to the mirror
+     *
+     * @param callback An optional callback notified on completion, after the listeners, may be null
+     * @return A future completed with the profiles added, changed or removed since the previous synchronization,
+     * or failed with a {@link GetProfileException} or an {@link IOException}
+     */
+    public ServiceFuture<Delta> syncAsync(ServiceCallback<? super Delta> callback) {
+        final ServiceFuture<Delta> result = new ServiceFuture<>();
+        if (callback != null) {
+            result.addCallback(callback);
+        }
+        final long sequence = syncSequence.incrementAndGet();
+        client.getProfilesAsync(new ServiceCallback<List<Profile>>() {
+            @Override
+            public void onSuccess(List<Profile> fetched) {
+                try {
+                    result.set(apply(sequence, fetched));
+                } catch (IOException | RuntimeException e) {
+                    result.setException(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                result.setException(exception);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @param id The profile ID
+     * @return The mirrored profile, or null if it isn't mirrored
+     */
+    public Profile getProfile(UUID id) {
+        return profiles.get(id);
+    }
+
+    /**
+     * @return The mirrored profiles, in the order the service listed them
+     */
+    public List<Profile> getProfiles() {
+        return new ArrayList<>(profiles.values());
+    }
+
+    private Delta apply(long sequence, List<Profile> fetched) throws IOException {
+        if (fetched == null) {
+            // A missing list isn't an empty one, don't report every mirrored profile as removed
+            throw new IOException("Empty profile list response");
+        }
+        synchronized (syncLock) {
+            List<Profile> none = Collections.emptyList();
+            if (sequence < appliedSequence) {
+                // A later synchronization already applied a more recent list
+                return new Delta(none, none, none);
+            }
+            appliedSequence = sequence;
+            Map<UUID, Profile> previous = profiles;
+            Map<UUID, Profile> current = new LinkedHashMap<>();
+            List<Profile> added = new ArrayList<>();
+            List<Profile> changed = new ArrayList<>();
+            for (Profile profile : fetched) {
+                current.put(profile.identificationProfileId, profile);
+                Profile mirrored = previous.get(profile.identificationProfileId);
+                if (mirrored == null) {
+                    added.add(profile);
+                } else if (!sameState(mirrored, profile)) {
+                    changed.add(profile);
+                }
+            }
+            List<Profile> removed = new ArrayList<>();
+            for (Profile mirrored : previous.values()) {
+                if (!current.containsKey(mirrored.identificationProfileId)) {
+                    removed.add(mirrored);
+                }
+            }
+            profiles = Collections.unmodifiableMap(current);
+
+            Delta delta = new Delta(added, changed, removed);
+            if (!delta.isEmpty()) {
+                for (Listener listener : listeners) {
+                    try {
+                        listener.onProfilesChanged(delta);
+                    } catch (RuntimeException e) {
+                        // The mirror already moved on, a failing listener mustn't cost the others the delta
+                    }
+                }
+            }
+            return delta;
+        }
+    }
+
+    private static boolean sameState(Profile a, Profile b) {
+        return a.enrollmentStatus == b.enrollmentStatus
+                && (a.lastActionDateTime == null
+                ? b.lastActionDateTime == null
+                : a.lastActionDateTime.equals(b.lastActionDateTime));
+    }
+}
@@ -4,19 +4,27 @@ import com.microsoft.cognitive.speakerrecognition.contract.IdentificationProfile
 import com.microsoft.cognitive.speakerrecognition.contract.SpeakerRecognitionApi;
 import com.microsoft.cognitive.speakerrecognition.contract.VerificationPhraseApi;
 import com.microsoft.cognitive.speakerrecognition.contract.VerificationProfileApi;
+import com.microsoft.cognitive.speakerrecognition.contract.verification.Verification;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonReader;
 import com.squareup.moshi.JsonWriter;
 import com.squareup.moshi.Moshi;
 import com.squareup.moshi.adapters.Rfc3339DateJsonAdapter;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
@@ -26,14 +34,30 @@ public class RecognitionFactory {
 
     private final ObjectGraph objectGraph;
 
-    private RecognitionFactory(final String apiKey, HttpLoggingInterceptor.Logger logger) {
-        objectGraph = ObjectGraph.getInstance(apiKey, logger);
+    private RecognitionFactory(Builder builder) {
+        objectGraph = new ObjectGraph(builder);
     }
 
     public static class Builder {
 
         private String apiKey;
+        private String baseUrl = BaseUrls.COGNITIVE_SERVICES_BASE_URL;
         private HttpLoggingInterceptor.Logger logger;
+        private boolean http2Enabled = true;
+        private int maxIdleConnections = 5;
+        private long keepAliveDurationMillis = TimeUnit.MINUTES.toMillis(5);
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 5;
+        private boolean audioConditioningEnabled;
+        private boolean audioValidationEnabled = true;
+        private boolean silenceTrimmingEnabled;
+        private int maxCachedProfiles;
+        private long profileCacheTtlMillis;
+        private boolean phraseCacheEnabled;
+        private File phraseCacheDirectory;
+        private long phraseRefreshMillis;
+        private int maxMemoizedResults;
+        private long resultMemoTtlMillis;
 
         public Builder(final String apiKey) {
             this.apiKey = apiKey;
@@ -44,46 +68,246 @@ public class RecognitionFactory {
             return this;
         }
 
+        /**
+         * Sets the base address of the service, e.g. a regional endpoint or a local stand-in server.
+         * Defaults to {@link BaseUrls#COGNITIVE_SERVICES_BASE_URL}.
+         *
+         * @param baseUrl The base address, ending with a slash
+         * @return This builder
+         */
+        public Builder setBaseUrl(String baseUrl) {
+            if (!baseUrl.endsWith("/")) {
+                throw new IllegalArgumentException("baseUrl must end with /");
+            }
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Sets whether HTTP/2 is negotiated with the service. With HTTP/2 all concurrent calls are multiplexed
+         * over a single connection, otherwise each in-flight call needs a connection of its own.
+         * Enabled by default.
+         *
+         * @param http2Enabled false to restrict the transport to HTTP/1.1
+         * @return This builder
+         */
+        public Builder setHttp2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+            return this;
+        }
+
+        /**
+         * Sets how many idle connections are kept for reuse, and for how long.
+         * Defaults to 5 connections kept for 5 minutes.
+         *
+         * @param maxIdleConnections The maximum number of idle connections kept in the pool
+         * @param keepAliveDuration  The time an idle connection is kept before it is closed
+         * @param timeUnit           The unit of the keep-alive duration
+         * @return This builder
+         */
+        public Builder setConnectionPool(int maxIdleConnections, long keepAliveDuration, TimeUnit timeUnit) {
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAliveDurationMillis = timeUnit.toMillis(keepAliveDuration);
+            return this;
+        }
+
+        /**
+         * Sets how many asynchronous calls may be in flight at once, further calls are queued until one completes.
+         * All calls go to the same host, so the per host limit is usually the one to raise.
+         * Defaults to 64 calls in total and 5 calls per host.
+         *
+         * @param maxRequests        The maximum number of concurrent calls
+         * @param maxRequestsPerHost The maximum number of concurrent calls to the service host
+         * @return This builder
+         */
+        public Builder setMaxRequests(int maxRequests, int maxRequestsPerHost) {
+            this.maxRequests = maxRequests;
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets whether audio is converted to the format expected by the service, 16 kHz mono 16 bit PCM WAV,
+         * while it is uploaded. Recordings at other rates, with several channels or other sample sizes are then
+         * accepted, and high rate stereo recordings upload several times faster. Audio already in the service
+         * format is uploaded as is. Disabled by default.
+         *
+         * @param audioConditioningEnabled true to convert audio before it is uploaded
+         * @return This builder
+         */
+        public Builder setAudioConditioningEnabled(boolean audioConditioningEnabled) {
+            this.audioConditioningEnabled = audioConditioningEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether the header of a WAV file or {@link AudioPayload} is checked before it is uploaded, so audio
+         * the service would reject, i.e. not a WAV stream, in a format that can't be uploaded, truncated or shorter
+         * than a second, fails immediately with the enrollment, identification or verification exception of the
+         * call instead of after the upload. The header is read in place, mapping files rather than reading them.
+         * Streams are never checked. Enabled by default.
+         *
+         * @param audioValidationEnabled false to leave every check to the service
+         * @return This builder
+         */
+        public Builder setAudioValidationEnabled(boolean audioValidationEnabled) {
+            this.audioValidationEnabled = audioValidationEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether the leading and trailing silence of 16 bit mono PCM audio is left out of enrollment,
+         * identification and verification uploads, found by a voice activity detector. 200 ms are kept around the
+         * speech and pauses within it are kept, so the speech reaching the service is unchanged while the upload is
+         * smaller and counts less against the audio length limits. Files and {@link AudioPayload}s are uploaded
+         * from a slice of their audio, streams are trimmed while they are read. Combined with conditioning, the
+         * conditioned audio is trimmed. Disabled by default.
+         *
+         * @param silenceTrimmingEnabled true to trim silence before it is uploaded
+         * @return This builder
+         */
+        public Builder setSilenceTrimmingEnabled(boolean silenceTrimmingEnabled) {
+            this.silenceTrimmingEnabled = silenceTrimmingEnabled;
+            return this;
+        }
+
+        /**
+         * Enables a cache of the profiles read by the clients, so repeated {@code getProfile} and
+         * {@code getProfiles} calls are answered without a request while the cached profiles are fresh.
+         * Profiles are evicted once they expire or when the cache is full, least recently used first. A profile is
+         * forgotten as soon as the service answers an enrollment, reset or deletion of it made by a client of this
+         * factory, changes made by other means are seen once the cached profile expires. Disabled by default.
+         *
+         * @param maxCachedProfiles The maximum number of profiles cached per client type, 0 disables the cache
+         * @param ttl               The time a profile is cached
+         * @param timeUnit          The unit of the time to live
+         * @return This builder
+         */
+        public Builder setProfileCache(int maxCachedProfiles, long ttl, TimeUnit timeUnit) {
+            if (maxCachedProfiles < 0) {
+                throw new IllegalArgumentException("maxCachedProfiles < 0");
+            }
+            this.maxCachedProfiles = maxCachedProfiles;
+            this.profileCacheTtlMillis = timeUnit.toMillis(ttl);
+            return this;
+        }
+
+        /**
+         * Enables a cache of the verification phrases of each locale, so {@code getPhrases} answers immediately
+         * once the phrases of a locale were fetched. Phrases older than the refresh age are still returned, and
+         * refreshed in the background for the next lookup. Disabled by default.
+         *
+         * @param directory    The directory the phrases are persisted in so they survive restarts, e.g. a
+         *                     subdirectory of the application cache directory, or null to keep them in memory only
+         * @param refreshAfter The age after which cached phrases are refreshed
+         * @param timeUnit     The unit of the refresh age
+         * @return This builder
+         */
+        public Builder setPhraseCache(File directory, long refreshAfter, TimeUnit timeUnit) {
+            this.phraseCacheEnabled = true;
+            this.phraseCacheDirectory = directory;
+            this.phraseRefreshMillis = timeUnit.toMillis(refreshAfter);
+            return this;
+        }
+
+        /**
+         * Enables remembering verification and identification results, so submitting the same audio against the
+         * same profiles again returns the previous result without uploading anything. Audio is recognized by a hash
+         * of its content, only audio passed as a file or an {@link AudioPayload} is remembered. A result is forgotten
+         * once it expires, when the memo is full, least recently used first, or as soon as one of its profiles is
+         * enrolled, reset or deleted by a client of this factory. Disabled by default.
+         *
+         * @param maxMemoizedResults The maximum number of results remembered per client type, 0 disables the memo
+         * @param ttl                The time a result is remembered
+         * @param timeUnit           The unit of the time to live
+         * @return This builder
+         */
+        public Builder setResultMemo(int maxMemoizedResults, long ttl, TimeUnit timeUnit) {
+            if (maxMemoizedResults < 0) {
+                throw new IllegalArgumentException("maxMemoizedResults < 0");
+            }
+            this.maxMemoizedResults = maxMemoizedResults;
+            this.resultMemoTtlMillis = timeUnit.toMillis(ttl);
+            return this;
+        }
+
         public RecognitionFactory build() {
-            return new RecognitionFactory(apiKey, logger);
+            return new RecognitionFactory(this);
         }
     }
 
     public SpeakerIdentificationClient createSpeakerIdentificationClient() {
         return new SpeakerIdentificationRetrofitClient(objectGraph.getIdentificationProfileApi(),
-                objectGraph.getSpeakerRecognitionApi(), objectGraph.getMoshi());
+                objectGraph.getSpeakerRecognitionApi(), objectGraph.getAudioUploads(),
+                objectGraph.getIdentificationProfileCache(), objectGraph.getIdentificationMemo(), objectGraph.getMoshi());
     }
 
     public SpeakerVerificationClient createSpeakerVerificationClient() {
         return new SpeakerVerificationRetrofitClient(objectGraph.getVerificationProfileApi(),
                 objectGraph.getVerificationPhraseApi(),
                 objectGraph.getSpeakerRecognitionApi(),
+                objectGraph.getAudioUploads(),
+                objectGraph.getVerificationProfileCache(),
+                objectGraph.getPhraseCache(),
+                objectGraph.getVerificationMemo(),
                 objectGraph.getMoshi());
     }
 
     private static class ObjectGraph {
 
         private final String apiKey;
+        private final String baseUrl;
         private final HttpLoggingInterceptor.Logger logger;
+        private final boolean http2Enabled;
+        private final int maxIdleConnections;
+        private final long keepAliveDurationMillis;
+        private final int maxRequests;
+        private final int maxRequestsPerHost;
+        private final boolean audioConditioningEnabled;
+        private final boolean audioValidationEnabled;
+        private final boolean silenceTrimmingEnabled;
+        private final int maxCachedProfiles;
+        private final long profileCacheTtlMillis;
+        private final boolean phraseCacheEnabled;
+        private final File phraseCacheDirectory;
+        private final long phraseRefreshMillis;
+        private final int maxMemoizedResults;
+        private final long resultMemoTtlMillis;
         private Moshi moshi;
         private OkHttpClient okHttpClient;
         private Retrofit retrofit;
-
-        private static ObjectGraph INSTANCE;
-
-        public static ObjectGraph getInstance(final String apiKey, HttpLoggingInterceptor.Logger logger) {
-            if (INSTANCE == null) {
-                INSTANCE = new ObjectGraph(apiKey, logger);
-            }
-            return INSTANCE;
-        }
-
-        private ObjectGraph(String apiKey, HttpLoggingInterceptor.Logger logger) {
-            this.apiKey = apiKey;
-            this.logger = logger;
+        private AudioUploads audioUploads;
+        private ProfileCache<com.microsoft.cognitive.speakerrecognition.contract.identification.Profile> identificationProfileCache;
+        private ProfileCache<com.microsoft.cognitive.speakerrecognition.contract.verification.Profile> verificationProfileCache;
+        private PhraseCache phraseCache;
+        private ResultMemo<SpeakerIdentificationRetrofitClient.MemoizedIdentification> identificationMemo;
+        private ResultMemo<Verification> verificationMemo;
+
+        /**
+         * Copies the configuration, so changing the builder afterwards doesn't affect the factory already built
+         */
+        private ObjectGraph(Builder config) {
+            this.apiKey = config.apiKey;
+            this.baseUrl = config.baseUrl;
+            this.logger = config.logger;
+            this.http2Enabled = config.http2Enabled;
+            this.maxIdleConnections = config.maxIdleConnections;
+            this.keepAliveDurationMillis = config.keepAliveDurationMillis;
+            this.maxRequests = config.maxRequests;
+            this.maxRequestsPerHost = config.maxRequestsPerHost;
+            this.audioConditioningEnabled = config.audioConditioningEnabled;
+            this.audioValidationEnabled = config.audioValidationEnabled;
+            this.silenceTrimmingEnabled = config.silenceTrimmingEnabled;
+            this.maxCachedProfiles = config.maxCachedProfiles;
+            this.profileCacheTtlMillis = config.profileCacheTtlMillis;
+            this.phraseCacheEnabled = config.phraseCacheEnabled;
+            this.phraseCacheDirectory = config.phraseCacheDirectory;
+            this.phraseRefreshMillis = config.phraseRefreshMillis;
+            this.maxMemoizedResults = config.maxMemoizedResults;
+            this.resultMemoTtlMillis = config.resultMemoTtlMillis;
         }
 
-        public Moshi getMoshi() {
+        public synchronized Moshi getMoshi() {
             if (moshi == null) {
                 moshi = new Moshi.Builder()
                         .add(UUID.class, getUUIDAdapter())
@@ -93,9 +317,60 @@ public class RecognitionFactory {
             return moshi;
         }
 
-        public OkHttpClient getOkHttpClient() {
+        public synchronized AudioUploads getAudioUploads() {
+            if (audioUploads == null) {
+                audioUploads = new AudioUploads(audioConditioningEnabled, audioValidationEnabled, silenceTrimmingEnabled);
+            }
+            return audioUploads;
+        }
+
+        public synchronized ProfileCache<com.microsoft.cognitive.speakerrecognition.contract.identification.Profile> getIdentificationProfileCache() {
+            if (identificationProfileCache == null) {
+                identificationProfileCache = new ProfileCache<>(SpeakerIdentificationRetrofitClient.PROFILE_IDS, maxCachedProfiles, profileCacheTtlMillis, TimeUnit.MILLISECONDS);
+            }
+            return identificationProfileCache;
+        }
+
+        public synchronized ProfileCache<com.microsoft.cognitive.speakerrecognition.contract.verification.Profile> getVerificationProfileCache() {
+            if (verificationProfileCache == null) {
+                verificationProfileCache = new ProfileCache<>(SpeakerVerificationRetrofitClient.PROFILE_IDS, maxCachedProfiles, profileCacheTtlMillis, TimeUnit.MILLISECONDS);
+            }
+            return verificationProfileCache;
+        }
+
+        public synchronized PhraseCache getPhraseCache() {
+            if (phraseCache == null) {
+                phraseCache = new PhraseCache(phraseCacheEnabled, phraseCacheDirectory, phraseRefreshMillis, TimeUnit.MILLISECONDS);
+            }
+            return phraseCache;
+        }
+
+        public synchronized ResultMemo<SpeakerIdentificationRetrofitClient.MemoizedIdentification> getIdentificationMemo() {
+            if (identificationMemo == null) {
+                identificationMemo = new ResultMemo<>(maxMemoizedResults, resultMemoTtlMillis, TimeUnit.MILLISECONDS);
+            }
+            return identificationMemo;
+        }
+
+        public synchronized ResultMemo<Verification> getVerificationMemo() {
+            if (verificationMemo == null) {
+                verificationMemo = new ResultMemo<>(maxMemoizedResults, resultMemoTtlMillis, TimeUnit.MILLISECONDS);
+            }
+            return verificationMemo;
+        }
+
+        public synchronized OkHttpClient getOkHttpClient() {
             if (okHttpClient == null) {
+                Dispatcher dispatcher = new Dispatcher();
+                dispatcher.setMaxRequests(maxRequests);
+                dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
                 okHttpClient = new OkHttpClient.Builder()
+                        .protocols(http2Enabled
+                                ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                                : Collections.singletonList(Protocol.HTTP_1_1))
+                        .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveDurationMillis, TimeUnit.MILLISECONDS))
+                        .dispatcher(dispatcher)
                         .addInterceptor(new Interceptor() {
                             @Override
                             public okhttp3.Response intercept(Chain chain) throws IOException {
@@ -122,12 +397,20 @@ public class RecognitionFactory {
             }
         }
 
-        public Retrofit getRetrofit() {
+        public synchronized Retrofit getRetrofit() {
             if (retrofit == null) {
                 retrofit = new Retrofit.Builder()
                         .addConverterFactory(MoshiConverterFactory.create(getMoshi()))
                         .client(getOkHttpClient())
-                        .baseUrl(BaseUrls.COGNITIVE_SERVICES_BASE_URL)
+                        // Complete async calls on the OkHttp dispatcher thread rather than the Android main thread,
+                        // so a ServiceFuture can be awaited from any thread
+                        .callbackExecutor(new Executor() {
+                            @Override
+                            public void execute(Runnable command) {
+                                command.run();
+                            }
+                        })
+                        .baseUrl(baseUrl)
                         .build();
             }
             return retrofit;
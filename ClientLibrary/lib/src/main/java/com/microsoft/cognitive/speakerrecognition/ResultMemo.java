@@ -0,0 +1,201 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the result of submitting a given clip against given profiles, so submitting the same audio again
+ * returns the same result without uploading it.
+ * <p>
+ * Results are keyed by the content hash of the audio, the profile IDs and the call options. They are kept in a
+ * least recently used map of bounded size for a limited time, and forgotten as soon as one of their profiles is
+ * enrolled, reset or deleted since the service would then answer differently. Results computed asynchronously by
+ * the service, i.e. identifications, are announced with {@link #expect} when submitted and remembered with
+ * {@link #fulfil} once they succeed.
+ *
+ * @param <V> The result type
+ */
+final class ResultMemo<V> {
+
+    /**
+     * The number of submitted operations whose result is awaited
+     */
+    private static final int MAX_EXPECTED = 1024;
+
+    private static final class Memo<V> {
+
+        final V value;
+        final List<UUID> profileIds;
+        final long expiresAtNanos;
+
+        Memo(V value, List<UUID> profileIds, long expiresAtNanos) {
+            this.value = value;
+            this.profileIds = profileIds;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private static final class Expected {
+
+        final String key;
+        final List<UUID> profileIds;
+        final long version;
+
+        Expected(String key, List<UUID> profileIds, long version) {
+            this.key = key;
+            this.profileIds = profileIds;
+            this.version = version;
+        }
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Memo<V>> memos;
+    private final Map<String, Expected> expected;
+    private long version;
+
+    /**
+     * @param maxEntries The maximum number of results remembered, 0 disables the memo
+     * @param ttl        The time a result is remembered
+     * @param unit       The unit of the time to live
+     */
+    ResultMemo(final int maxEntries, long ttl, TimeUnit unit) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.memos = new LinkedHashMap<String, Memo<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Memo<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.expected = new LinkedHashMap<String, Expected>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Expected> eldest) {
+                return size() > MAX_EXPECTED;
+            }
+        };
+    }
+
+    /**
+     * @return Whether results are remembered at all, keys needn't be computed otherwise
+     */
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Builds the key of a submission
+     *
+     * @param audio      The submitted audio
+     * @param profileIds The profiles the audio is submitted against, in any order
+     * @param options    The call options changing the result
+     * @return The key, or null if the memo is disabled
+     */
+    String key(AudioPayload audio, Collection<UUID> profileIds, String options) {
+        if (!isEnabled()) {
+            return null;
+        }
+        List<UUID> sorted = new ArrayList<>(profileIds);
+        Collections.sort(sorted);
+        return audio.contentHash() + "/" + sorted + "/" + options;
+    }
+
+    /**
+     * @return A token to pass when remembering the result of a submission started now
+     */
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * @param key The submission key, may be null
+     * @return The remembered result, or null if there is none or it has expired
+     */
+    synchronized V get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Memo<V> memo = memos.get(key);
+        if (memo == null) {
+            return null;
+        }
+        if (memo.expiresAtNanos - System.nanoTime() <= 0) {
+            memos.remove(key);
+            return null;
+        }
+        return memo.value;
+    }
+
+    /**
+     * Remembers a result, unless one of its profiles changed since the submission started
+     *
+     * @param key           The submission key, may be null
+     * @param profileIds    The profiles the audio was submitted against
+     * @param value         The result
+     * @param submitVersion The {@link #version()} when the submission started
+     */
+    synchronized void put(String key, Collection<UUID> profileIds, V value, long submitVersion) {
+        if (key == null || value == null || submitVersion != version) {
+            return;
+        }
+        memos.put(key, new Memo<>(value, new ArrayList<>(profileIds), System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Announces a submission whose result is computed by an asynchronous operation
+     *
+     * @param url           The operation location
+     * @param key           The submission key, may be null
+     * @param profileIds    The profiles the audio was submitted against
+     * @param submitVersion The {@link #version()} when the submission started
+     */
+    synchronized void expect(String url, String key, Collection<UUID> profileIds, long submitVersion) {
+        if (key == null || url == null) {
+            return;
+        }
+        expected.put(url, new Expected(key, new ArrayList<>(profileIds), submitVersion));
+    }
+
+    /**
+     * Remembers the result of an announced submission
+     *
+     * @param url   The operation location
+     * @param value The result
+     */
+    synchronized void fulfil(String url, V value) {
+        Expected submission = expected.remove(url);
+        if (submission != null) {
+            put(submission.key, submission.profileIds, value, submission.version);
+        }
+    }
+
+    /**
+     * Forgets the results involving a profile changed on the service
+     *
+     * @param profileId The profile ID
+     */
+    synchronized void invalidate(UUID profileId) {
+        version++;
+        Iterator<Memo<V>> iterator = memos.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().profileIds.contains(profileId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Forgets everything, when a change can't be attributed to a profile
+     */
+    synchronized void clear() {
+        version++;
+        memos.clear();
+    }
+}
@@ -0,0 +1,69 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.io.IOException;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * A package-private helper bridging enqueued Retrofit calls to {@link ServiceFuture}s
+ */
+class RetrofitCalls {
+
+    /**
+     * Converts a raw Retrofit response to a call result, throwing the same exceptions as the blocking client method
+     *
+     * @param <R> The type of the response body
+     * @param <T> The type of the call result
+     */
+    interface ResponseHandler<R, T> {
+
+        T handle(Response<R> response) throws Exception;
+    }
+
+    private RetrofitCalls() {
+    }
+
+    /**
+     * Enqueues a call on the OkHttp dispatcher without blocking the calling thread
+     *
+     * @param call     The call to enqueue
+     * @param handler  The handler converting the response to a result or an exception
+     * @param callback An optional callback notified on completion, may be null
+     * @param <R>      The type of the response body
+     * @param <T>      The type of the call result
+     * @return A future completed with the handled result, cancelling it cancels the call
+     */
+    static <R, T> ServiceFuture<T> enqueue(final Call<R> call, final ResponseHandler<R, T> handler, ServiceCallback<? super T> callback) {
+        final ServiceFuture<T> future = new ServiceFuture<T>() {
+            @Override
+            protected void onCancelled(boolean mayInterruptIfRunning) {
+                call.cancel();
+            }
+        };
+        if (callback != null) {
+            future.addCallback(callback);
+        }
+        call.enqueue(new Callback<R>() {
+            @Override
+            public void onResponse(Call<R> call, Response<R> response) {
+                try {
+                    future.set(handler.handle(response));
+                } catch (Exception e) {
+                    future.setException(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<R> call, Throwable t) {
+                if (t instanceof Exception) {
+                    future.setException((Exception) t);
+                } else {
+                    future.setException(new IOException(t));
+                }
+            }
+        });
+        return future;
+    }
+}
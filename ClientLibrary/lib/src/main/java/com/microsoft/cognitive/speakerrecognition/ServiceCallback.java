@@ -0,0 +1,25 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+/**
+ * A callback notified when an asynchronous service call completes
+ *
+ * @param <T> The type of the call result
+ */
+public interface ServiceCallback<T> {
+
+    /**
+     * Invoked when the call completed successfully
+     *
+     * @param result The call result, which may be null for calls without a response body
+     */
+    void onSuccess(T result);
+
+    /**
+     * Invoked when the call failed or was cancelled
+     *
+     * @param exception The exception the equivalent blocking call would have thrown, e.g. an
+     *                  {@link java.io.IOException} or one of the contract exceptions, or a
+     *                  {@link java.util.concurrent.CancellationException} if the call was cancelled
+     */
+    void onFailure(Exception exception);
+}
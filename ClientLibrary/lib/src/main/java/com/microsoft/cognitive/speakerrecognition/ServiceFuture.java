@@ -0,0 +1,287 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The pending result of an asynchronous service call.
+ * <p>
+ * A failed call completes the future with the exception the blocking variant would have thrown, so
+ * {@link #get()} throws an {@link ExecutionException} whose cause is e.g. an
+ * {@link com.microsoft.cognitive.speakerrecognition.contract.EnrollmentException} or an {@link java.io.IOException}.
+ * Callbacks are invoked exactly once, on the thread completing the future, or immediately on the
+ * registering thread if the future is already done. An exception thrown by a callback is ignored, so the callbacks
+ * registered after it are still invoked.
+ *
+ * @param <T> The type of the call result
+ */
+public class ServiceFuture<T> implements Future<T> {
+
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    private final List<ServiceCallback<? super T>> callbacks = new ArrayList<>();
+    private int state = PENDING;
+    private T result;
+    private Exception exception;
+
+    /**
+     * Runs a blocking call on the given executor
+     *
+     * @param executor The executor running the call
+     * @param call     The blocking call
+     * @param callback An optional callback notified on completion, may be null
+     * @param <T>      The type of the call result
+     * @return A future completed with the result of the call
+     */
+    public static <T> ServiceFuture<T> submit(Executor executor, Callable<T> call, ServiceCallback<? super T> callback) {
+        CallableServiceFuture<T> future = new CallableServiceFuture<>(call);
+        if (callback != null) {
+            future.addCallback(callback);
+        }
+        try {
+            executor.execute(future);
+        } catch (RuntimeException e) {
+            future.setException(e);
+        }
+        return future;
+    }
+
+    /**
+     * Creates a future already completed, for calls answered without any request
+     *
+     * @param result   The call result
+     * @param callback An optional callback notified immediately, may be null
+     * @param <T>      The type of the call result
+     * @return The completed future
+     */
+    static <T> ServiceFuture<T> completed(T result, ServiceCallback<? super T> callback) {
+        ServiceFuture<T> future = new ServiceFuture<>();
+        if (callback != null) {
+            future.addCallback(callback);
+        }
+        future.set(result);
+        return future;
+    }
+
+    /**
+     * Creates a future already failed, for calls rejected before any request is made
+     *
+     * @param exception The failure
+     * @param callback  An optional callback notified immediately, may be null
+     * @param <T>       The type of the call result
+     * @return The failed future
+     */
+    static <T> ServiceFuture<T> failed(Exception exception, ServiceCallback<? super T> callback) {
+        ServiceFuture<T> future = new ServiceFuture<>();
+        if (callback != null) {
+            future.addCallback(callback);
+        }
+        future.setException(exception);
+        return future;
+    }
+
+    /**
+     * Completes the future successfully
+     *
+     * @param result The call result
+     * @return true if this call completed the future, false if it was already done
+     */
+    public boolean set(T result) {
+        List<ServiceCallback<? super T>> toNotify;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            this.result = result;
+            state = SUCCEEDED;
+            toNotify = drainCallbacks();
+        }
+        for (ServiceCallback<? super T> callback : toNotify) {
+            notifySuccess(callback, result);
+        }
+        return true;
+    }
+
+    /**
+     * Completes the future exceptionally
+     *
+     * @param exception The exception the blocking call would have thrown
+     * @return true if this call completed the future, false if it was already done
+     */
+    public boolean setException(Exception exception) {
+        if (exception == null) {
+            throw new NullPointerException("exception");
+        }
+        List<ServiceCallback<? super T>> toNotify;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            this.exception = exception;
+            state = FAILED;
+            toNotify = drainCallbacks();
+        }
+        for (ServiceCallback<? super T> callback : toNotify) {
+            notifyFailure(callback, exception);
+        }
+        return true;
+    }
+
+    /**
+     * Registers a callback notified when the future completes
+     *
+     * @param callback The callback
+     */
+    public void addCallback(ServiceCallback<? super T> callback) {
+        int completedState;
+        synchronized (this) {
+            if (state == PENDING) {
+                callbacks.add(callback);
+                return;
+            }
+            completedState = state;
+        }
+        if (completedState == SUCCEEDED) {
+            notifySuccess(callback, result);
+        } else if (completedState == FAILED) {
+            notifyFailure(callback, exception);
+        } else {
+            notifyFailure(callback, new CancellationException());
+        }
+    }
+
+    /**
+     * Invoked once when the future is cancelled before completing, so the underlying request can be aborted
+     *
+     * @param mayInterruptIfRunning Whether the thread running the request may be interrupted
+     */
+    protected void onCancelled(boolean mayInterruptIfRunning) {
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        List<ServiceCallback<? super T>> toNotify;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            state = CANCELLED;
+            toNotify = drainCallbacks();
+        }
+        onCancelled(mayInterruptIfRunning);
+        for (ServiceCallback<? super T> callback : toNotify) {
+            notifyFailure(callback, new CancellationException());
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return getResult();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        while (state == PENDING) {
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+        return getResult();
+    }
+
+    private T getResult() throws ExecutionException {
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        } else if (state == FAILED) {
+            throw new ExecutionException(exception);
+        }
+        return result;
+    }
+
+    private static <T> void notifySuccess(ServiceCallback<? super T> callback, T result) {
+        try {
+            callback.onSuccess(result);
+        } catch (RuntimeException e) {
+            // The future is already complete, a failing callback mustn't keep the result from the others
+        }
+    }
+
+    private static void notifyFailure(ServiceCallback<?> callback, Exception exception) {
+        try {
+            callback.onFailure(exception);
+        } catch (RuntimeException e) {
+            // The future is already complete, a failing callback mustn't keep the failure from the others
+        }
+    }
+
+    private List<ServiceCallback<? super T>> drainCallbacks() {
+        notifyAll();
+        List<ServiceCallback<? super T>> toNotify = new ArrayList<>(callbacks);
+        callbacks.clear();
+        return toNotify;
+    }
+
+    /**
+     * A future running a blocking call when executed, interrupting it on cancellation if allowed
+     */
+    private static class CallableServiceFuture<T> extends ServiceFuture<T> implements Runnable {
+
+        private final Callable<T> call;
+        private volatile Thread runner;
+
+        CallableServiceFuture(Callable<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+            runner = Thread.currentThread();
+            try {
+                set(call.call());
+            } catch (Exception e) {
+                setException(e);
+            } finally {
+                runner = null;
+            }
+        }
+
+        @Override
+        protected void onCancelled(boolean mayInterruptIfRunning) {
+            Thread thread = runner;
+            if (mayInterruptIfRunning && thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
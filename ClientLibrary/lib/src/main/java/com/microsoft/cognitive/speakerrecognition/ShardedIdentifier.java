@@ -0,0 +1,326 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.Confidence;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Identification;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationException;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationOperation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.OperationLocation;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Status;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifies a speaker against any number of profiles, although the service accepts at most
+ * {@link #MAX_PROFILES_PER_REQUEST} profiles per identification.
+ * <p>
+ * The profile list is split into shards of at most that size. The shards are uploaded and polled in parallel,
+ * a bounded number at a time, and their results are merged by confidence. As soon as a shard identifies the speaker
+ * with high confidence the remaining shards are cancelled, since no other result can be better.
+ * Operations are polled by an {@link OperationPollingEngine}, so waiting shards don't hold any thread.
+ */
+public final class ShardedIdentifier {
+
+    /**
+     * The maximum number of profiles the service accepts in a single identification
+     */
+    public static final int MAX_PROFILES_PER_REQUEST = 10;
+
+    /**
+     * The profile ID returned when the speaker isn't identified
+     */
+    private static final UUID UNIDENTIFIED = new UUID(0, 0);
+
+    private final SpeakerIdentificationClient client;
+    private final OperationPollingEngine pollingEngine;
+    private final int shardSize;
+    private final int maxConcurrentShards;
+    private final long timeoutNanos;
+
+    private ShardedIdentifier(Builder builder) {
+        this.client = builder.client;
+        this.pollingEngine = builder.pollingEngine;
+        this.shardSize = builder.shardSize;
+        this.maxConcurrentShards = builder.maxConcurrentShards;
+        this.timeoutNanos = builder.timeoutNanos;
+    }
+
+    public static class Builder {
+
+        private final SpeakerIdentificationClient client;
+        private final OperationPollingEngine pollingEngine;
+        private int shardSize = MAX_PROFILES_PER_REQUEST;
+        private int maxConcurrentShards = 4;
+        private long timeoutNanos = TimeUnit.MINUTES.toNanos(2);
+
+        /**
+         * @param client        The client uploading the audio of each shard
+         * @param pollingEngine The engine polling the identification operations
+         */
+        public Builder(SpeakerIdentificationClient client, OperationPollingEngine pollingEngine) {
+            this.client = client;
+            this.pollingEngine = pollingEngine;
+        }
+
+        /**
+         * Sets the number of profiles per identification. Defaults to {@link #MAX_PROFILES_PER_REQUEST}.
+         *
+         * @param shardSize The number of profiles, between 1 and {@link #MAX_PROFILES_PER_REQUEST}
+         * @return This builder
+         */
+        public Builder setShardSize(int shardSize) {
+            if (shardSize < 1 || shardSize > MAX_PROFILES_PER_REQUEST) {
+                throw new IllegalArgumentException("shardSize must be between 1 and " + MAX_PROFILES_PER_REQUEST);
+            }
+            this.shardSize = shardSize;
+            return this;
+        }
+
+        /**
+         * Sets how many shards are uploaded or polled at once. Defaults to 4.
+         *
+         * @param maxConcurrentShards The maximum number of shards in progress
+         * @return This builder
+         */
+        public Builder setMaxConcurrentShards(int maxConcurrentShards) {
+            if (maxConcurrentShards < 1) {
+                throw new IllegalArgumentException("maxConcurrentShards < 1");
+            }
+            this.maxConcurrentShards = maxConcurrentShards;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time an identification may take, all shards included. Defaults to 2 minutes.
+         *
+         * @param timeout The timeout
+         * @param unit    The unit of the timeout
+         * @return This builder
+         */
+        public Builder setTimeout(long timeout, TimeUnit unit) {
+            this.timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        public ShardedIdentifier build() {
+            return new ShardedIdentifier(this);
+        }
+    }
+
+    /**
+     * Identifies a speaker against a list of profiles of any size, mapping the audio file once for all shards
+     *
+     * @param audio      The audio file to identify
+     * @param ids        The profile IDs to identify the speaker against
+     * @param shortAudio Whether to instruct the service to waive the recommended minimum audio limit
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification of highest confidence, whose profile ID is all zeros if no
+     * shard identified the speaker, or failed with an {@link IdentificationException}, an {@link IOException}
+     * or a {@link java.util.concurrent.TimeoutException}. Cancelling it cancels the shards in progress.
+     */
+    public ServiceFuture<Identification> identifyAsync(File audio, List<UUID> ids, boolean shortAudio,
+                                                       ServiceCallback<? super Identification> callback) {
+        AudioPayload payload;
+        try {
+            payload = AudioPayload.map(audio);
+        } catch (IOException e) {
+            return ServiceFuture.failed(e, callback);
+        }
+        return identifyAsync(payload, ids, shortAudio, callback);
+    }
+
+    /**
+     * Identifies a speaker against a list of profiles of any size, uploading the same payload for every shard
+     *
+     * @param audio      The audio payload to identify
+     * @param ids        The profile IDs to identify the speaker against
+     * @param shortAudio Whether to instruct the service to waive the recommended minimum audio limit
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification of highest confidence, whose profile ID is all zeros if no
+     * shard identified the speaker, or failed with an {@link IdentificationException}, an {@link IOException}
+     * or a {@link java.util.concurrent.TimeoutException}. Cancelling it cancels the shards in progress.
+     */
+    public ServiceFuture<Identification> identifyAsync(AudioPayload audio, List<UUID> ids, boolean shortAudio,
+                                                       ServiceCallback<? super Identification> callback) {
+        List<List<UUID>> shards = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += shardSize) {
+            shards.add(new ArrayList<>(ids.subList(i, Math.min(ids.size(), i + shardSize))));
+        }
+        ShardedIdentification identification = new ShardedIdentification(audio, shards, shortAudio);
+        if (callback != null) {
+            identification.addCallback(callback);
+        }
+        if (shards.isEmpty()) {
+            identification.setException(new IllegalArgumentException("No profile to identify against"));
+        } else {
+            identification.launchShards();
+        }
+        return identification;
+    }
+
+    /**
+     * Identifies a speaker against the enrolled members of a speaker group of any size
+     *
+     * @param audio      The audio payload to identify
+     * @param group      The speaker group to identify from
+     * @param shortAudio Whether to instruct the service to waive the recommended minimum audio limit
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed as {@link #identifyAsync(AudioPayload, List, boolean, ServiceCallback)}, or failed
+     * immediately with an {@link IdentificationException} if no member of the group is enrolled
+     */
+    public ServiceFuture<Identification> identifyAsync(AudioPayload audio, SpeakerGroup group, boolean shortAudio,
+                                                       ServiceCallback<? super Identification> callback) {
+        if (!group.isIdentifiable()) {
+            return ServiceFuture.failed(group.notIdentifiable(), callback);
+        }
+        return identifyAsync(audio, group.getEnrolledIds(), shortAudio, callback);
+    }
+
+    private static boolean isIdentified(Identification identification) {
+        return identification != null && identification.identifiedProfileId != null
+                && !UNIDENTIFIED.equals(identification.identifiedProfileId);
+    }
+
+    /**
+     * Orders identifications, unidentified results first and then by increasing confidence
+     */
+    private static int rank(Identification identification) {
+        if (!isIdentified(identification)) {
+            return -1;
+        }
+        return identification.confidence == null ? 0 : identification.confidence.ordinal() + 1;
+    }
+
+    private class ShardedIdentification extends ServiceFuture<Identification> {
+
+        private final AudioPayload audio;
+        private final List<List<UUID>> shards;
+        private final boolean shortAudio;
+        private final long deadlineNanos = System.nanoTime() + timeoutNanos;
+
+        private final Object lock = new Object();
+        private final List<Future<?>> outstanding = new ArrayList<>();
+        private int nextShard;
+        private int activeShards;
+        private int completedShards;
+        private Identification best;
+
+        ShardedIdentification(AudioPayload audio, List<List<UUID>> shards, boolean shortAudio) {
+            this.audio = audio;
+            this.shards = shards;
+            this.shortAudio = shortAudio;
+        }
+
+        void launchShards() {
+            List<List<UUID>> toLaunch = new ArrayList<>();
+            synchronized (lock) {
+                while (!isDone() && activeShards < maxConcurrentShards && nextShard < shards.size()) {
+                    toLaunch.add(shards.get(nextShard++));
+                    activeShards++;
+                }
+            }
+            for (List<UUID> shard : toLaunch) {
+                launch(shard);
+            }
+        }
+
+        private void launch(final List<UUID> shard) {
+            track(client.identifyAsync(audio, shard, shortAudio, new ServiceCallback<OperationLocation>() {
+                @Override
+                public void onSuccess(OperationLocation location) {
+                    if (isDone()) {
+                        return;
+                    }
+                    long remaining = deadlineNanos - System.nanoTime();
+                    track(pollingEngine.awaitIdentification(location, shard, remaining, TimeUnit.NANOSECONDS, new ServiceCallback<IdentificationOperation>() {
+                        @Override
+                        public void onSuccess(IdentificationOperation operation) {
+                            shardCompleted(operation);
+                        }
+
+                        @Override
+                        public void onFailure(Exception exception) {
+                            fail(exception);
+                        }
+                    }));
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    fail(exception);
+                }
+            }));
+        }
+
+        private void shardCompleted(IdentificationOperation operation) {
+            if (operation.status == Status.FAILED) {
+                fail(new IdentificationException(operation.message));
+                return;
+            }
+            Identification result = operation.processingResult;
+            if (isIdentified(result) && result.confidence == Confidence.HIGH) {
+                // No other shard can do better
+                if (set(result)) {
+                    cancelOutstanding();
+                }
+                return;
+            }
+
+            Identification merged = null;
+            synchronized (lock) {
+                if (result != null && (best == null || rank(result) > rank(best))) {
+                    best = result;
+                }
+                activeShards--;
+                if (++completedShards == shards.size()) {
+                    merged = best;
+                    if (merged == null) {
+                        merged = new Identification();
+                        merged.identifiedProfileId = UNIDENTIFIED;
+                    }
+                }
+            }
+            if (merged != null) {
+                set(merged);
+            } else {
+                launchShards();
+            }
+        }
+
+        private void fail(Exception exception) {
+            if (setException(exception)) {
+                cancelOutstanding();
+            }
+        }
+
+        private void track(Future<?> future) {
+            synchronized (lock) {
+                outstanding.add(future);
+            }
+            if (isDone()) {
+                future.cancel(true);
+            }
+        }
+
+        private void cancelOutstanding() {
+            List<Future<?>> toCancel;
+            synchronized (lock) {
+                toCancel = new ArrayList<>(outstanding);
+                outstanding.clear();
+            }
+            for (Future<?> future : toCancel) {
+                future.cancel(true);
+            }
+        }
+
+        @Override
+        protected void onCancelled(boolean mayInterruptIfRunning) {
+            cancelOutstanding();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import com.microsoft.cognitive.speakerrecognition.contract.EnrollmentStatus;
+import com.microsoft.cognitive.speakerrecognition.contract.GetProfileException;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationException;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Profile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An immutable set of identification profiles a speaker is identified against, along with the enrollment status
+ * of each member.
+ * <p>
+ * The service rejects an identification involving a profile which isn't enrolled yet, but only once the audio has
+ * been uploaded. A group therefore only submits its {@link EnrollmentStatus#ENROLLED} members, and the clients reject
+ * a group without any of them before uploading anything. The profile IDs query parameter is built once per group.
+ * <p>
+ * Groups are updated by creating modified copies, e.g. with {@link #withProfile(Profile)} once a member finished
+ * training, so a group can be shared between threads.
+ */
+public final class SpeakerGroup {
+
+    private final Map<UUID, EnrollmentStatus> statuses;
+    private final List<UUID> enrolledIds;
+    private final String enrolledIdsParam;
+
+    private SpeakerGroup(Map<UUID, EnrollmentStatus> statuses) {
+        this.statuses = Collections.unmodifiableMap(statuses);
+        List<UUID> enrolled = new ArrayList<>();
+        StringBuilder param = new StringBuilder();
+        for (Map.Entry<UUID, EnrollmentStatus> member : statuses.entrySet()) {
+            if (member.getValue() == EnrollmentStatus.ENROLLED) {
+                if (param.length() > 0) {
+                    param.append(',');
+                }
+                param.append(member.getKey());
+                enrolled.add(member.getKey());
+            }
+        }
+        this.enrolledIds = Collections.unmodifiableList(enrolled);
+        this.enrolledIdsParam = param.toString();
+    }
+
+    /**
+     * Creates a group from profiles returned by the service
+     *
+     * @param profiles The member profiles
+     * @return The group
+     */
+    public static SpeakerGroup of(Collection<Profile> profiles) {
+        Map<UUID, EnrollmentStatus> statuses = new LinkedHashMap<>();
+        for (Profile profile : profiles) {
+            statuses.put(profile.identificationProfileId, profile.enrollmentStatus);
+        }
+        return new SpeakerGroup(statuses);
+    }
+
+    /**
+     * Creates a group looking up the enrollment status of its members, with a single request for all of them.
+     * Profiles the service doesn't know are kept as members of unknown status, and not submitted.
+     *
+     * @param client The client looking up the profiles
+     * @param ids    The member profile IDs
+     * @return The group
+     * @throws GetProfileException Thrown in case of an internal server error
+     * @throws IOException         Signals a connection abortion, or an invalid response content
+     */
+    public static SpeakerGroup load(SpeakerIdentificationClient client, Collection<UUID> ids) throws GetProfileException, IOException {
+        Map<UUID, EnrollmentStatus> known = new HashMap<>();
+        for (Profile profile : client.getProfiles()) {
+            known.put(profile.identificationProfileId, profile.enrollmentStatus);
+        }
+        Map<UUID, EnrollmentStatus> statuses = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            statuses.put(id, known.get(id));
+        }
+        return new SpeakerGroup(statuses);
+    }
+
+    /**
+     * Creates a copy of this group updating the status of a member from its profile, or adding it
+     *
+     * @param profile The member profile returned by the service
+     * @return The updated group, or this group if the status didn't change
+     */
+    public SpeakerGroup withProfile(Profile profile) {
+        return withStatus(profile.identificationProfileId, profile.enrollmentStatus);
+    }
+
+    /**
+     * Creates a copy of this group updating the status of a member, or adding it
+     *
+     * @param id     The member profile ID
+     * @param status The enrollment status, or null if unknown
+     * @return The updated group, or this group if the status didn't change
+     */
+    public SpeakerGroup withStatus(UUID id, EnrollmentStatus status) {
+        if (statuses.containsKey(id) && statuses.get(id) == status) {
+            return this;
+        }
+        Map<UUID, EnrollmentStatus> updated = new LinkedHashMap<>(statuses);
+        updated.put(id, status);
+        return new SpeakerGroup(updated);
+    }
+
+    /**
+     * Creates a copy of this group without a member, e.g. once its profile is deleted
+     *
+     * @param id The member profile ID
+     * @return The updated group, or this group if it wasn't a member
+     */
+    public SpeakerGroup without(UUID id) {
+        if (!statuses.containsKey(id)) {
+            return this;
+        }
+        Map<UUID, EnrollmentStatus> updated = new LinkedHashMap<>(statuses);
+        updated.remove(id);
+        return new SpeakerGroup(updated);
+    }
+
+    /**
+     * @return The IDs of all members, in the order they were added
+     */
+    public List<UUID> getMemberIds() {
+        return new ArrayList<>(statuses.keySet());
+    }
+
+    /**
+     * @param id The member profile ID
+     * @return The enrollment status of the member, or null if it is unknown or the profile isn't a member
+     */
+    public EnrollmentStatus getStatus(UUID id) {
+        return statuses.get(id);
+    }
+
+    /**
+     * @return The IDs of the members submitted for identification, i.e. the enrolled ones
+     */
+    public List<UUID> getEnrolledIds() {
+        return enrolledIds;
+    }
+
+    /**
+     * @return Whether at least one member is enrolled, i.e. whether the group can be identified against
+     */
+    public boolean isIdentifiable() {
+        return !enrolledIds.isEmpty();
+    }
+
+    /**
+     * @return The enrolled member IDs separated by a comma(","), as expected by the service
+     */
+    String getEnrolledIdsParam() {
+        return enrolledIdsParam;
+    }
+
+    /**
+     * Rejects an identification against this group before any upload if no member is enrolled
+     *
+     * @throws IdentificationException Thrown if no member is enrolled
+     */
+    void checkIdentifiable() throws IdentificationException {
+        if (!isIdentifiable()) {
+            throw notIdentifiable();
+        }
+    }
+
+    /**
+     * @return The exception rejecting an identification against this group when no member is enrolled
+     */
+    IdentificationException notIdentifiable() {
+        return new IdentificationException("No enrolled profile in the speaker group " + statuses);
+    }
+
+    @Override
+    public String toString() {
+        return statuses.toString();
+    }
+}
@@ -47,8 +47,11 @@ import com.microsoft.cognitive.speakerrecognition.contract.identification.Profil
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * An interface for a speaker identification service client related methods
@@ -58,7 +61,7 @@ public interface SpeakerIdentificationClient {
     /**
      * Identifies a given speaker using the speaker ID and audio stream
      *
-     * @param audioStream The audio stream to identify
+     * @param audioStream The audio stream to identify, read while the request is written and left open for the caller to close
      * @param ids         The list of possible speaker profile IDs to identify from
      * @return An object encapsulating the Url that can be used to query the identification operation status
      * @throws IdentificationException Thrown in case of an internal server error, invalid IDs or a wrong audio format
@@ -72,7 +75,7 @@ public interface SpeakerIdentificationClient {
     /**
      * Identifies a given speaker using the speaker ID and audio stream
      *
-     * @param audioStream     The audio stream to identify
+     * @param audioStream     The audio stream to identify, read while the request is written and left open for the caller to close
      * @param ids             The list of possible speaker profile IDs to identify from
      * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
      * @return An object encapsulating the Url that can be used to query the identification operation status
@@ -95,6 +98,44 @@ public interface SpeakerIdentificationClient {
      */
     OperationLocation identify(File audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException;
 
+    /**
+     * Identifies a given speaker using the speaker ID and a reusable audio payload
+     *
+     * @param audio      The audio payload to identify, which can be submitted again afterwards
+     * @param ids        The list of possible speaker profile IDs to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown in case of an internal server error, invalid IDs or a wrong audio format
+     * @throws IOException             Signals a connection abortion, or an invalid response content
+     */
+    OperationLocation identify(AudioPayload audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException;
+
+    /**
+     * Identifies a given speaker against the enrolled members of a speaker group
+     *
+     * @param audio      The audio WAV file to identify
+     * @param group      The speaker group to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown without uploading the audio if no member of the group is enrolled,
+     *                                 or in case of an internal server error or a wrong audio format
+     * @throws IOException             Signals an I/O issue while reading the audio file, a connection abortion, or an invalid response content
+     */
+    OperationLocation identify(File audio, SpeakerGroup group, boolean shortAudio) throws IdentificationException, IOException;
+
+    /**
+     * Identifies a given speaker against the enrolled members of a speaker group using a reusable audio payload
+     *
+     * @param audio      The audio payload to identify, which can be submitted again afterwards
+     * @param group      The speaker group to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown without uploading the audio if no member of the group is enrolled,
+     *                                 or in case of an internal server error or a wrong audio format
+     * @throws IOException             Signals a connection abortion, or an invalid response content
+     */
+    OperationLocation identify(AudioPayload audio, SpeakerGroup group, boolean shortAudio) throws IdentificationException, IOException;
+
     /**
      * Creates a new speaker profile
      *
@@ -105,6 +146,18 @@ public interface SpeakerIdentificationClient {
      */
     CreateProfileResponse createProfile(String locale) throws CreateProfileException, IOException;
 
+    /**
+     * Creates several speaker profiles, running the creations concurrently within the budget of a policy
+     *
+     * @param count  The number of profiles to create
+     * @param locale The speaker profile locale
+     * @param policy The concurrency and rate budget of the creations
+     * @return The created profile of each creation index from 0 to count - 1, and the {@link CreateProfileException}
+     * or {@link IOException} of each failed creation
+     * @throws InterruptedException Signals the thread was interrupted, the remaining creations are then cancelled
+     */
+    BulkResult<Integer, CreateProfileResponse> createProfiles(int count, String locale, BulkPolicy policy) throws InterruptedException;
+
     /**
      * Deletes a given speaker profile
      *
@@ -114,6 +167,17 @@ public interface SpeakerIdentificationClient {
      */
     void deleteProfile(UUID id) throws DeleteProfileException, IOException;
 
+    /**
+     * Deletes several speaker profiles, running the deletions concurrently within the budget of a policy
+     *
+     * @param ids    The IDs of the speaker profiles to be deleted
+     * @param policy The concurrency and rate budget of the deletions
+     * @return The deleted profile IDs, and the {@link DeleteProfileException} or {@link IOException} of each profile
+     * which couldn't be deleted
+     * @throws InterruptedException Signals the thread was interrupted, the remaining deletions are then cancelled
+     */
+    BulkResult<UUID, Void> deleteProfiles(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException;
+
     /**
      * Retrieves a speaker profile from the service
      *
@@ -136,7 +200,7 @@ public interface SpeakerIdentificationClient {
     /**
      * Enrolls a speaker profile from an audio stream
      *
-     * @param audioStream The audio stream to use for enrollment
+     * @param audioStream The audio stream to use for enrollment, read while the request is written and left open for the caller to close
      * @param id          The speaker profile ID to enroll
      * @return An object encapsulating the Url that can be used to query the enrollment operation status
      * @throws EnrollmentException Thrown in case of an invalid audio format, internal server error or an invalid ID
@@ -149,7 +213,7 @@ public interface SpeakerIdentificationClient {
     /**
      * Enrolls a speaker profile from an audio stream
      *
-     * @param audioStream     The audio stream to use for enrollment
+     * @param audioStream     The audio stream to use for enrollment, read while the request is written and left open for the caller to close
      * @param id              The speaker profile ID to enroll
      * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
      * @return An object encapsulating the Url that can be used to query the enrollment operation status
@@ -173,7 +237,21 @@ public interface SpeakerIdentificationClient {
     OperationLocation enroll(File audio, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException;
 
     /**
-     * Gets the enrollment operation status or result
+     * Enrolls a speaker profile from a reusable audio payload
+     *
+     * @param audio           The enrollment audio payload, which can be submitted again afterwards
+     * @param id              The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @return An object encapsulating the Url that can be used to query the enrollment operation status
+     * @throws EnrollmentException Thrown in case of an invalid audio format, internal server error or an invalid ID
+     * @throws IOException         Signals a connection abortion, or an invalid response content
+     */
+    OperationLocation enroll(AudioPayload audio, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException;
+
+    /**
+     * Gets the enrollment operation status or result.
+     * Concurrent checks of the same location share a single request, and operations which succeeded or failed
+     * are answered from memory as their status never changes.
      *
      * @param location The Url returned upon calling the enrollment operation
      * @return The enrollment operation object encapsulating the result
@@ -183,7 +261,9 @@ public interface SpeakerIdentificationClient {
     EnrollmentOperation checkEnrollmentStatus(OperationLocation location) throws EnrollmentException, IOException;
 
     /**
-     * Gets the identification operation status or result
+     * Gets the identification operation status or result.
+     * Concurrent checks of the same location share a single request, and operations which succeeded or failed
+     * are answered from memory as their status never changes.
      *
      * @param location The Url returned upon calling the identification operation
      * @return The identification operation object encapsulating the result
@@ -192,6 +272,64 @@ public interface SpeakerIdentificationClient {
      */
     IdentificationOperation checkIdentificationStatus(OperationLocation location) throws IdentificationException, IOException;
 
+    /**
+     * Waits until an enrollment operation succeeds or fails, polling its status on the default {@link PollingPolicy}
+     *
+     * @param location The Url returned upon calling the enrollment operation
+     * @param timeout  The maximum time to wait
+     * @param unit     The unit of the timeout
+     * @return The terminal enrollment operation, its status being either SUCCEEDED or FAILED
+     * @throws EnrollmentException  Thrown in case of an internal server error or an invalid URL
+     * @throws IOException          Signals a connection abortion, or an invalid response content
+     * @throws InterruptedException Signals the thread was interrupted while waiting
+     * @throws TimeoutException     Signals the operation didn't complete in time
+     */
+    EnrollmentOperation awaitEnrollment(OperationLocation location, long timeout, TimeUnit unit) throws EnrollmentException, IOException, InterruptedException, TimeoutException;
+
+    /**
+     * Waits until an enrollment operation succeeds or fails, polling its status on the given schedule
+     *
+     * @param location The Url returned upon calling the enrollment operation
+     * @param policy   The polling schedule
+     * @param timeout  The maximum time to wait
+     * @param unit     The unit of the timeout
+     * @return The terminal enrollment operation, its status being either SUCCEEDED or FAILED
+     * @throws EnrollmentException  Thrown in case of an internal server error or an invalid URL
+     * @throws IOException          Signals a connection abortion, or an invalid response content
+     * @throws InterruptedException Signals the thread was interrupted while waiting
+     * @throws TimeoutException     Signals the operation didn't complete in time
+     */
+    EnrollmentOperation awaitEnrollment(OperationLocation location, PollingPolicy policy, long timeout, TimeUnit unit) throws EnrollmentException, IOException, InterruptedException, TimeoutException;
+
+    /**
+     * Waits until an identification operation succeeds or fails, polling its status on the default {@link PollingPolicy}
+     *
+     * @param location The Url returned upon calling the identification operation
+     * @param timeout  The maximum time to wait
+     * @param unit     The unit of the timeout
+     * @return The terminal identification operation, its status being either SUCCEEDED or FAILED
+     * @throws IdentificationException Thrown in case of an internal server error or a wrong URL
+     * @throws IOException             Signals a connection abortion, or an invalid response content
+     * @throws InterruptedException    Signals the thread was interrupted while waiting
+     * @throws TimeoutException        Signals the operation didn't complete in time
+     */
+    IdentificationOperation awaitIdentification(OperationLocation location, long timeout, TimeUnit unit) throws IdentificationException, IOException, InterruptedException, TimeoutException;
+
+    /**
+     * Waits until an identification operation succeeds or fails, polling its status on the given schedule
+     *
+     * @param location The Url returned upon calling the identification operation
+     * @param policy   The polling schedule
+     * @param timeout  The maximum time to wait
+     * @param unit     The unit of the timeout
+     * @return The terminal identification operation, its status being either SUCCEEDED or FAILED
+     * @throws IdentificationException Thrown in case of an internal server error or a wrong URL
+     * @throws IOException             Signals a connection abortion, or an invalid response content
+     * @throws InterruptedException    Signals the thread was interrupted while waiting
+     * @throws TimeoutException        Signals the operation didn't complete in time
+     */
+    IdentificationOperation awaitIdentification(OperationLocation location, PollingPolicy policy, long timeout, TimeUnit unit) throws IdentificationException, IOException, InterruptedException, TimeoutException;
+
     /**
      * Deletes all enrollments associated with the given speaker identification profile permanently from the service
      *
@@ -200,4 +338,208 @@ public interface SpeakerIdentificationClient {
      * @throws IOException               Signals a connection abortion, or an invalid response content
      */
     void resetEnrollments(UUID id) throws ResetEnrollmentsException, IOException;
+
+    /**
+     * Resets the enrollments of several speaker profiles, running the resets concurrently within the budget of a policy
+     *
+     * @param ids    The IDs of the speaker profiles to be reset
+     * @param policy The concurrency and rate budget of the resets
+     * @return The reset profile IDs, and the {@link ResetEnrollmentsException} or {@link IOException} of each profile
+     * which couldn't be reset
+     * @throws InterruptedException Signals the thread was interrupted, the remaining resets are then cancelled
+     */
+    BulkResult<UUID, Void> resetEnrollments(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException;
+
+    /**
+     * Asynchronously identifies a given speaker using the speaker ID and audio file
+     *
+     * @param audio      The audio WAV file to identify
+     * @param ids        The list of possible speaker profile IDs to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification operation location, or failed with an
+     * {@link IdentificationException} or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> identifyAsync(File audio, List<UUID> ids, boolean shortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously identifies a given speaker using the speaker ID and a reusable audio payload
+     *
+     * @param audio      The audio payload to identify, which can be submitted again afterwards
+     * @param ids        The list of possible speaker profile IDs to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification operation location, or failed with an
+     * {@link IdentificationException} or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> identifyAsync(AudioPayload audio, List<UUID> ids, boolean shortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously identifies a given speaker using audio being recorded, the audio is uploaded as it is written
+     * to the capture
+     *
+     * @param audio      The capture, which the recording thread writes to and then finishes
+     * @param ids        The list of possible speaker profile IDs to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification operation location, or failed with an
+     * {@link IdentificationException} or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> identifyAsync(AudioCapture audio, List<UUID> ids, boolean shortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously identifies a given speaker against the enrolled members of a speaker group
+     *
+     * @param audio      The audio WAV file to identify
+     * @param group      The speaker group to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification operation location, or failed with an
+     * {@link IdentificationException}, immediately if no member of the group is enrolled, or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> identifyAsync(File audio, SpeakerGroup group, boolean shortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously identifies a given speaker against the enrolled members of a speaker group using a reusable audio payload
+     *
+     * @param audio      The audio payload to identify, which can be submitted again afterwards
+     * @param group      The speaker group to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @param callback   An optional callback notified on completion, may be null
+     * @return A future completed with the identification operation location, or failed with an
+     * {@link IdentificationException}, immediately if no member of the group is enrolled, or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> identifyAsync(AudioPayload audio, SpeakerGroup group, boolean shortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously creates a new speaker profile
+     *
+     * @param locale   The speaker profile locale
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the created profile, or failed with a {@link CreateProfileException} or an {@link IOException}
+     */
+    ServiceFuture<CreateProfileResponse> createProfileAsync(String locale, ServiceCallback<? super CreateProfileResponse> callback);
+
+    /**
+     * Asynchronously creates several speaker profiles, running the creations concurrently within the budget of a policy
+     *
+     * @param count    The number of profiles to create
+     * @param locale   The speaker profile locale
+     * @param policy   The concurrency and rate budget of the creations
+     * @param callback An optional callback notified once every creation completed, may be null
+     * @return A future completed with the outcome of each creation index from 0 to count - 1. Cancelling it cancels
+     * the remaining creations.
+     */
+    ServiceFuture<BulkResult<Integer, CreateProfileResponse>> createProfilesAsync(int count, String locale, BulkPolicy policy, ServiceCallback<? super BulkResult<Integer, CreateProfileResponse>> callback);
+
+    /**
+     * Asynchronously deletes a given speaker profile
+     *
+     * @param id       The ID of the speaker profile to be deleted
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed on deletion, or failed with a {@link DeleteProfileException} or an {@link IOException}
+     */
+    ServiceFuture<Void> deleteProfileAsync(UUID id, ServiceCallback<? super Void> callback);
+
+    /**
+     * Asynchronously deletes several speaker profiles, running the deletions concurrently within the budget of a policy
+     *
+     * @param ids      The IDs of the speaker profiles to be deleted
+     * @param policy   The concurrency and rate budget of the deletions
+     * @param callback An optional callback notified once every deletion completed, may be null
+     * @return A future completed with the outcome of each deletion. Cancelling it cancels the remaining deletions.
+     */
+    ServiceFuture<BulkResult<UUID, Void>> deleteProfilesAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback);
+
+    /**
+     * Asynchronously retrieves a speaker profile from the service
+     *
+     * @param id       The ID of the speaker profile to get
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the requested profile, or failed with a {@link GetProfileException} or an {@link IOException}
+     */
+    ServiceFuture<Profile> getProfileAsync(UUID id, ServiceCallback<? super Profile> callback);
+
+    /**
+     * Asynchronously gets all speaker profiles from the service
+     *
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with all profiles, or failed with a {@link GetProfileException} or an {@link IOException}
+     */
+    ServiceFuture<List<Profile>> getProfilesAsync(ServiceCallback<? super List<Profile>> callback);
+
+    /**
+     * Asynchronously enrolls a speaker profile from an audio file
+     *
+     * @param audio           A wav-file containing the enrollment audio
+     * @param id              The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @param callback        An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment operation location, or failed with an
+     * {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> enrollAsync(File audio, UUID id, boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously enrolls a speaker profile from a reusable audio payload
+     *
+     * @param audio           The enrollment audio payload, which can be submitted again afterwards
+     * @param id              The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @param callback        An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment operation location, or failed with an
+     * {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> enrollAsync(AudioPayload audio, UUID id, boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously enrolls a speaker profile from audio being recorded, the audio is uploaded as it is written
+     * to the capture
+     *
+     * @param audio           The capture, which the recording thread writes to and then finishes
+     * @param id              The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @param callback        An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment operation location, or failed with an
+     * {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<OperationLocation> enrollAsync(AudioCapture audio, UUID id, boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback);
+
+    /**
+     * Asynchronously gets the enrollment operation status or result
+     *
+     * @param location The Url returned upon calling the enrollment operation
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment operation, or failed with an {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<EnrollmentOperation> checkEnrollmentStatusAsync(OperationLocation location, ServiceCallback<? super EnrollmentOperation> callback);
+
+    /**
+     * Asynchronously gets the identification operation status or result
+     *
+     * @param location The Url returned upon calling the identification operation
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the identification operation, or failed with an {@link IdentificationException} or an {@link IOException}
+     */
+    ServiceFuture<IdentificationOperation> checkIdentificationStatusAsync(OperationLocation location, ServiceCallback<? super IdentificationOperation> callback);
+
+    /**
+     * Asynchronously deletes all enrollments associated with the given speaker identification profile
+     *
+     * @param id       The speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed on reset, or failed with a {@link ResetEnrollmentsException} or an {@link IOException}
+     */
+    ServiceFuture<Void> resetEnrollmentsAsync(UUID id, ServiceCallback<? super Void> callback);
+
+    /**
+     * Asynchronously resets the enrollments of several speaker profiles, running the resets concurrently within the
+     * budget of a policy
+     *
+     * @param ids      The IDs of the speaker profiles to be reset
+     * @param policy   The concurrency and rate budget of the resets
+     * @param callback An optional callback notified once every reset completed, may be null
+     * @return A future completed with the outcome of each reset. Cancelling it cancels the remaining resets.
+     */
+    ServiceFuture<BulkResult<UUID, Void>> resetEnrollmentsAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback);
 }
@@ -49,13 +49,20 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
@@ -65,7 +72,6 @@ import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.impl.client.DefaultHttpClient;
 import org.apache.http.message.BasicNameValuePair;
 
 /**
@@ -113,6 +119,28 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
      */
     private SpeakerRestClientHelper clientHelper;
 
+    /**
+     * The executor running the asynchronous calls
+     */
+    private Executor executor;
+
+    /**
+     * The number of succeeded or failed operations remembered, their status never changing
+     */
+    private static final int TERMINAL_OPERATION_CACHE_SIZE = 1024;
+
+    /**
+     * Coalesces concurrent enrollment status checks and remembers terminal enrollment operations
+     */
+    private final OperationStatusCache<EnrollmentOperation, EnrollmentException> enrollmentStatusCache =
+            new OperationStatusCache<>(EnrollmentException.class, TERMINAL_OPERATION_CACHE_SIZE);
+
+    /**
+     * Coalesces concurrent identification status checks and remembers terminal identification operations
+     */
+    private final OperationStatusCache<IdentificationOperation, IdentificationException> identificationStatusCache =
+            new OperationStatusCache<>(IdentificationException.class, TERMINAL_OPERATION_CACHE_SIZE);
+
     //----------------------------------------------------------------------------------------------
 
     /**
@@ -121,9 +149,31 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
      * @param subscriptionKey The subscription key to use
      */
     public SpeakerIdentificationRestClient(String subscriptionKey) {
-        defaultHttpClient = new DefaultHttpClient();
+        this(subscriptionKey, SpeakerRestClientHelper.getDefaultExecutor());
+    }
+
+    /**
+     * Initializes an instance of the service client
+     *
+     * @param subscriptionKey The subscription key to use
+     * @param executor        The executor running the asynchronous calls, each of which occupies a thread while in flight
+     */
+    public SpeakerIdentificationRestClient(String subscriptionKey, Executor executor) {
+        this(subscriptionKey, SpeakerRestClientHelper.getSharedHttpClient(), executor);
+    }
+
+    /**
+     * Initializes an instance of the service client
+     *
+     * @param subscriptionKey The subscription key
+     * @param httpClient      The Http client used to communicate with the service, it must be thread-safe to use the asynchronous calls
+     * @param executor        The executor running the asynchronous calls, each of which occupies a thread while in flight
+     */
+    public SpeakerIdentificationRestClient(String subscriptionKey, HttpClient httpClient, Executor executor) {
+        defaultHttpClient = httpClient;
         gson =  new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:SS.SSS").create();
         clientHelper = new SpeakerRestClientHelper(subscriptionKey);
+        this.executor = executor;
     }
 
     //----------------------------------------------------------------------------------------------
@@ -146,22 +196,29 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
         request.setEntity(new UrlEncodedFormEntity(paramsList));
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, CreateProfileResponse.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new CreateProfileException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, CreateProfileResponse.class);
             } else {
-                throw new CreateProfileException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new CreateProfileException(errorResponse.error.message);
+                } else {
+                    throw new CreateProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    @Override
+    public BulkResult<Integer, CreateProfileResponse> createProfiles(int count, String locale, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(createProfilesAsync(count, locale, policy, null));
+    }
+
     /**
      * Retrieves a speaker profile from the service
      *
@@ -176,19 +233,21 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(IDENTIFICATION_PROFILE_URI + "/" + id.toString(), RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, Profile.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new GetProfileException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, Profile.class);
             } else {
-                throw new GetProfileException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new GetProfileException(errorResponse.error.message);
+                } else {
+                    throw new GetProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
@@ -205,20 +264,22 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(IDENTIFICATION_PROFILE_URI, RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            Type listType = new TypeToken<List<Profile>>(){}.getType();
-            return gson.fromJson(stringResponse, listType);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new GetProfileException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                Type listType = new TypeToken<List<Profile>>(){}.getType();
+                return clientHelper.readJson(gson, response, listType);
             } else {
-                throw new GetProfileException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new GetProfileException(errorResponse.error.message);
+                } else {
+                    throw new GetProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
@@ -235,20 +296,27 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
         HttpDelete request = (HttpDelete) clientHelper.createHttpRequest(IDENTIFICATION_PROFILE_URI + "/" + id.toString(), RequestType.DELETE);
 
         HttpResponse response = defaultHttpClient.execute(request);
-
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode != HttpStatus.SC_OK) {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new DeleteProfileException(errorResponse.error.message);
-            } else {
-                throw new DeleteProfileException(String.valueOf(statusCode));
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
+
+            if (statusCode != HttpStatus.SC_OK) {
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new DeleteProfileException(errorResponse.error.message);
+                } else {
+                    throw new DeleteProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    @Override
+    public BulkResult<UUID, Void> deleteProfiles(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(deleteProfilesAsync(ids, policy, null));
+    }
+
     /**
      * Enrolls a speaker profile from an audio stream
      *
@@ -277,40 +345,90 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
     @Override
     public OperationLocation enroll(InputStream audioStream, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
 
+        return enroll(audioStream, -1, id, forceShortAudio);
+    }
+
+    /**
+     * Enrolls a speaker profile from an audio stream of a known length
+     *
+     * @param audioStream The audio stream to use for enrollment
+     * @param audioLength The number of bytes in the audio stream, or -1 if unknown
+     * @param id The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @return An object encapsulating the Url that can be used to query the enrollment operation status
+     * @throws EnrollmentException Thrown in case of an invalid audio format, internal server error or an invalid ID
+     * @throws IOException Signals an I/O issue while reading the audio stream, a connection abortion, or an invalid response content
+     */
+    private OperationLocation enroll(InputStream audioStream, long audioLength, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
+
         String requestUrl = IDENTIFICATION_PROFILE_URI + "/" + id.toString() + "/enroll?" + SHORT_AUDIO_PARAM + "=" + forceShortAudio;
         HttpPost request = (HttpPost) clientHelper.createHttpRequest(requestUrl, RequestType.POST);
 
         String fileName = id.toString() + "_" + new Date();
-        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, "enrollmentData", fileName);
+        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, audioLength, "enrollmentData", fileName);
         request.setEntity(entity);
 
         HttpResponse response = defaultHttpClient.execute(request);
-
-        int statusCode = clientHelper.getStatusCode(response);
-
-        if (statusCode == HttpStatus.SC_ACCEPTED) { //  202 Accepted (HTTP/1.0 - RFC 1945)
-            String header = response.getFirstHeader(_OPERATION_LOCATION_HEADER).getValue();
-            if (header.trim().length() != 0) {
-                OperationLocation opLoc = new OperationLocation();
-                opLoc.Url = header;
-                return opLoc;
-            } else {
-                throw new EnrollmentException("Incorrect server response");
-            }
-        } else {
-            String stringResponse = clientHelper.httpResponseToString(response);
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new EnrollmentException(errorResponse.error.message);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
+
+            if (statusCode == HttpStatus.SC_ACCEPTED) { //  202 Accepted (HTTP/1.0 - RFC 1945)
+                Header header = response.getFirstHeader(_OPERATION_LOCATION_HEADER);
+                if (header != null && header.getValue().trim().length() != 0) {
+                    OperationLocation opLoc = new OperationLocation();
+                    opLoc.Url = header.getValue();
+                    return opLoc;
+                } else {
+                    throw new EnrollmentException("Incorrect server response");
+                }
             } else {
-                throw new EnrollmentException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new EnrollmentException(errorResponse.error.message);
+                } else {
+                    throw new EnrollmentException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
+        }
+    }
+
+    /**
+     * Enrolls a speaker profile from an audio file
+     *
+     * @param audio A wav-file containing the enrollment audio
+     * @param id The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @return An object encapsulating the Url that can be used to query the enrollment operation status
+     * @throws EnrollmentException Thrown in case of an invalid audio format, internal server error or an invalid ID
+     * @throws IOException Signals an I/O issue while reading the audio file, a connection abortion, or an invalid response content
+     */
+    @Override
+    public OperationLocation enroll(File audio, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
+
+        InputStream audioStream = new FileInputStream(audio);
+        try {
+            return enroll(audioStream, audio.length(), id, forceShortAudio);
+        } finally {
+            audioStream.close();
         }
     }
 
+    /**
+     * Enrolls a speaker profile from a reusable audio payload
+     *
+     * @param audio The enrollment audio payload, which can be submitted again afterwards
+     * @param id The speaker profile ID to enroll
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for enrollment
+     * @return An object encapsulating the Url that can be used to query the enrollment operation status
+     * @throws EnrollmentException Thrown in case of an invalid audio format, internal server error or an invalid ID
+     * @throws IOException Signals a connection abortion, or an invalid response content
+     */
     @Override
-    public OperationLocation enroll(File audioStream, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
-        throw new RuntimeException();
+    public OperationLocation enroll(AudioPayload audio, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
+
+        return enroll(audio.openStream(), audio.length(), id, forceShortAudio);
     }
 
     /**
@@ -322,24 +440,35 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
      * @throws IOException Signals a connection abortion, or an invalid response content
      */
     @Override
-    public EnrollmentOperation checkEnrollmentStatus(OperationLocation location) throws EnrollmentException, IOException {
+    public EnrollmentOperation checkEnrollmentStatus(final OperationLocation location) throws EnrollmentException, IOException {
+        return enrollmentStatusCache.get(location, new OperationStatusCache.StatusCheck<EnrollmentOperation, EnrollmentException>() {
+            @Override
+            public EnrollmentOperation check() throws EnrollmentException, IOException {
+                return fetchEnrollmentStatus(location);
+            }
+        });
+    }
+
+    private EnrollmentOperation fetchEnrollmentStatus(OperationLocation location) throws EnrollmentException, IOException {
 
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(location.Url, RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, EnrollmentOperation.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new EnrollmentException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, EnrollmentOperation.class);
             } else {
-                throw new EnrollmentException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new EnrollmentException(errorResponse.error.message);
+                } else {
+                    throw new EnrollmentException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
@@ -357,20 +486,27 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
         HttpPost request = (HttpPost) clientHelper.createHttpRequest(requestUrl, RequestType.POST);
 
         HttpResponse response = defaultHttpClient.execute(request);
-
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode != HttpStatus.SC_OK) {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new ResetEnrollmentsException(errorResponse.error.message);
-            } else {
-                throw new ResetEnrollmentsException(String.valueOf(statusCode));
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
+
+            if (statusCode != HttpStatus.SC_OK) {
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new ResetEnrollmentsException(errorResponse.error.message);
+                } else {
+                    throw new ResetEnrollmentsException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    @Override
+    public BulkResult<UUID, Void> resetEnrollments(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(resetEnrollmentsAsync(ids, policy, null));
+    }
+
     /**
      * Gets the identification operation status or result
      *
@@ -380,27 +516,68 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
      * @throws IOException Signals a connection abortion, or an invalid response content
      */
     @Override
-    public IdentificationOperation checkIdentificationStatus(OperationLocation location) throws IdentificationException, IOException {
+    public IdentificationOperation checkIdentificationStatus(final OperationLocation location) throws IdentificationException, IOException {
+        return identificationStatusCache.get(location, new OperationStatusCache.StatusCheck<IdentificationOperation, IdentificationException>() {
+            @Override
+            public IdentificationOperation check() throws IdentificationException, IOException {
+                return fetchIdentificationStatus(location);
+            }
+        });
+    }
+
+    private IdentificationOperation fetchIdentificationStatus(OperationLocation location) throws IdentificationException, IOException {
 
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(location.Url, RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, IdentificationOperation.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new IdentificationException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, IdentificationOperation.class);
             } else {
-                throw new IdentificationException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new IdentificationException(errorResponse.error.message);
+                } else {
+                    throw new IdentificationException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    @Override
+    public EnrollmentOperation awaitEnrollment(OperationLocation location, long timeout, TimeUnit unit) throws EnrollmentException, IOException, InterruptedException, TimeoutException {
+        return awaitEnrollment(location, PollingPolicy.DEFAULT, timeout, unit);
+    }
+
+    @Override
+    public EnrollmentOperation awaitEnrollment(final OperationLocation location, PollingPolicy policy, long timeout, TimeUnit unit) throws EnrollmentException, IOException, InterruptedException, TimeoutException {
+        return OperationPoller.await(new OperationPoller.StatusCheck<EnrollmentOperation, EnrollmentException>() {
+            @Override
+            public EnrollmentOperation check() throws EnrollmentException, IOException {
+                return checkEnrollmentStatus(location);
+            }
+        }, policy, timeout, unit);
+    }
+
+    @Override
+    public IdentificationOperation awaitIdentification(OperationLocation location, long timeout, TimeUnit unit) throws IdentificationException, IOException, InterruptedException, TimeoutException {
+        return awaitIdentification(location, PollingPolicy.DEFAULT, timeout, unit);
+    }
+
+    @Override
+    public IdentificationOperation awaitIdentification(final OperationLocation location, PollingPolicy policy, long timeout, TimeUnit unit) throws IdentificationException, IOException, InterruptedException, TimeoutException {
+        return OperationPoller.await(new OperationPoller.StatusCheck<IdentificationOperation, IdentificationException>() {
+            @Override
+            public IdentificationOperation check() throws IdentificationException, IOException {
+                return checkIdentificationStatus(location);
+            }
+        }, policy, timeout, unit);
+    }
+
     /**
      * Identifies a given speaker using the speaker ID and audio stream
      *
@@ -429,40 +606,332 @@ public class SpeakerIdentificationRestClient implements SpeakerIdentificationCli
     @Override
     public OperationLocation identify(InputStream audioStream, List<UUID> ids, boolean forceShortAudio) throws IdentificationException, IOException {
 
-        String testProfileIds = clientHelper.buildProfileIdsString(ids);
-        String requestUrl = IDENTIFICATION_URI + "?identificationProfileIds=" + testProfileIds.toString() + "&" + SHORT_AUDIO_PARAM + "=" + forceShortAudio;
+        return identify(audioStream, -1, clientHelper.buildProfileIdsString(ids), forceShortAudio);
+    }
+
+    /**
+     * Identifies a given speaker using an audio stream of a known length
+     *
+     * @param audioStream The audio stream to identify
+     * @param audioLength The number of bytes in the audio stream, or -1 if unknown
+     * @param idsParam The possible speaker profile IDs to identify from, separated by a comma(",")
+     * @param forceShortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown in case of an internal server error, invalid IDs or a wrong audio format
+     * @throws IOException Signals an I/O issue while reading the audio stream, a connection abortion, or an invalid response content
+     */
+    private OperationLocation identify(InputStream audioStream, long audioLength, String idsParam, boolean forceShortAudio) throws IdentificationException, IOException {
+
+        String requestUrl = IDENTIFICATION_URI + "?identificationProfileIds=" + idsParam + "&" + SHORT_AUDIO_PARAM + "=" + forceShortAudio;
         HttpPost request = (HttpPost) clientHelper.createHttpRequest(requestUrl, RequestType.POST);
 
         String fileName = "identificationsIds" + "_" + new Date();
-        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, "identificationData", fileName);
+        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, audioLength, "identificationData", fileName);
         request.setEntity(entity);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
+
+            if (statusCode == HttpStatus.SC_ACCEPTED) { //  202 Accepted (HTTP/1.0 - RFC 1945)
+                Header header = response.getFirstHeader(_OPERATION_LOCATION_HEADER);
+                if (header != null && header.getValue().trim().length() != 0) {
+                    OperationLocation opLoc = new OperationLocation();
+                    opLoc.Url = header.getValue();
+                    return opLoc;
+                } else {
+                    throw new IdentificationException("Incorrect server response");
+                }
+            } else {
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new IdentificationException(errorResponse.error.message);
+                } else {
+                    throw new IdentificationException(String.valueOf(statusCode));
+                }
+            }
+        } finally {
+            clientHelper.consume(response);
+        }
+    }
 
-        int statusCode = clientHelper.getStatusCode(response);
+    /**
+     * Identifies a given speaker using the speaker ID and audio file
+     *
+     * @param audio The audio WAV file to identify
+     * @param ids The list of possible speaker profile IDs to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown in case of an internal server error, invalid IDs or a wrong audio format
+     * @throws IOException Signals an I/O issue while reading the audio file, a connection abortion, or an invalid response content
+     */
+    @Override
+    public OperationLocation identify(File audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException {
 
-        if (statusCode == HttpStatus.SC_ACCEPTED) { //  202 Accepted (HTTP/1.0 - RFC 1945)
-            String header = response.getFirstHeader(_OPERATION_LOCATION_HEADER).getValue();
-            if (header.trim().length() != 0) {
-                OperationLocation opLoc = new OperationLocation();
-                opLoc.Url = header;
-                return opLoc;
-            } else {
-                throw new IdentificationException("Incorrect server response");
+        InputStream audioStream = new FileInputStream(audio);
+        try {
+            return identify(audioStream, audio.length(), clientHelper.buildProfileIdsString(ids), shortAudio);
+        } finally {
+            audioStream.close();
+        }
+    }
+
+    /**
+     * Identifies a given speaker using the speaker ID and a reusable audio payload
+     *
+     * @param audio The audio payload to identify, which can be submitted again afterwards
+     * @param ids The list of possible speaker profile IDs to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown in case of an internal server error, invalid IDs or a wrong audio format
+     * @throws IOException Signals a connection abortion, or an invalid response content
+     */
+    @Override
+    public OperationLocation identify(AudioPayload audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException {
+
+        return identify(audio.openStream(), audio.length(), clientHelper.buildProfileIdsString(ids), shortAudio);
+    }
+
+    /**
+     * Identifies a given speaker against the enrolled members of a speaker group
+     *
+     * @param audio The audio WAV file to identify
+     * @param group The speaker group to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown without uploading the audio if no member of the group is enrolled,
+     * or in case of an internal server error or a wrong audio format
+     * @throws IOException Signals an I/O issue while reading the audio file, a connection abortion, or an invalid response content
+     */
+    @Override
+    public OperationLocation identify(File audio, SpeakerGroup group, boolean shortAudio) throws IdentificationException, IOException {
+
+        group.checkIdentifiable();
+        InputStream audioStream = new FileInputStream(audio);
+        try {
+            return identify(audioStream, audio.length(), group.getEnrolledIdsParam(), shortAudio);
+        } finally {
+            audioStream.close();
+        }
+    }
+
+    /**
+     * Identifies a given speaker against the enrolled members of a speaker group using a reusable audio payload
+     *
+     * @param audio The audio payload to identify, which can be submitted again afterwards
+     * @param group The speaker group to identify from
+     * @param shortAudio Instruct the service to waive the recommended minimum audio limit needed for identification
+     * @return An object encapsulating the Url that can be used to query the identification operation status
+     * @throws IdentificationException Thrown without uploading the audio if no member of the group is enrolled,
+     * or in case of an internal server error or a wrong audio format
+     * @throws IOException Signals a connection abortion, or an invalid response content
+     */
+    @Override
+    public OperationLocation identify(AudioPayload audio, SpeakerGroup group, boolean shortAudio) throws IdentificationException, IOException {
+
+        group.checkIdentifiable();
+        return identify(audio.openStream(), audio.length(), group.getEnrolledIdsParam(), shortAudio);
+    }
+
+    //----------------------------------------------------------------------------------------------
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(final File audio, final List<UUID> ids, final boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        return ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return identify(audio, ids, shortAudio);
             }
-        } else {
-            String stringResponse = clientHelper.httpResponseToString(response);
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new IdentificationException(errorResponse.error.message);
-            } else {
-                throw new IdentificationException(String.valueOf(statusCode));
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(final AudioPayload audio, final List<UUID> ids, final boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        return ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return identify(audio, ids, shortAudio);
             }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(AudioCapture audio, final List<UUID> ids, final boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        final InputStream audioStream = audio.openStream();
+        return audio.uploadedBy(ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return identify(audioStream, ids, shortAudio);
+            }
+        }, callback));
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(final File audio, final SpeakerGroup group, final boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        if (!group.isIdentifiable()) {
+            return ServiceFuture.failed(group.notIdentifiable(), callback);
         }
+        return ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return identify(audio, group, shortAudio);
+            }
+        }, callback);
     }
 
     @Override
-    public OperationLocation identify(File audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException {
-        return null;
+    public ServiceFuture<OperationLocation> identifyAsync(final AudioPayload audio, final SpeakerGroup group, final boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        if (!group.isIdentifiable()) {
+            return ServiceFuture.failed(group.notIdentifiable(), callback);
+        }
+        return ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return identify(audio, group, shortAudio);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<CreateProfileResponse> createProfileAsync(final String locale, ServiceCallback<? super CreateProfileResponse> callback) {
+        return ServiceFuture.submit(executor, new Callable<CreateProfileResponse>() {
+            @Override
+            public CreateProfileResponse call() throws Exception {
+                return createProfile(locale);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<Integer, CreateProfileResponse>> createProfilesAsync(int count, final String locale, BulkPolicy policy, ServiceCallback<? super BulkResult<Integer, CreateProfileResponse>> callback) {
+        return BulkExecutor.run(BulkExecutor.indices(count), policy, new BulkExecutor.ItemCall<Integer, CreateProfileResponse>() {
+            @Override
+            public ServiceFuture<CreateProfileResponse> start(Integer index) {
+                return createProfileAsync(locale, null);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Void> deleteProfileAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return ServiceFuture.submit(executor, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                deleteProfile(id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> deleteProfilesAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return deleteProfileAsync(id, null);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Profile> getProfileAsync(final UUID id, ServiceCallback<? super Profile> callback) {
+        return ServiceFuture.submit(executor, new Callable<Profile>() {
+            @Override
+            public Profile call() throws Exception {
+                return getProfile(id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<List<Profile>> getProfilesAsync(ServiceCallback<? super List<Profile>> callback) {
+        return ServiceFuture.submit(executor, new Callable<List<Profile>>() {
+            @Override
+            public List<Profile> call() throws Exception {
+                return getProfiles();
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> enrollAsync(final File audio, final UUID id, final boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback) {
+        return ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return enroll(audio, id, forceShortAudio);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> enrollAsync(final AudioPayload audio, final UUID id, final boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback) {
+        return ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return enroll(audio, id, forceShortAudio);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> enrollAsync(AudioCapture audio, final UUID id, final boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback) {
+        final InputStream audioStream = audio.openStream();
+        return audio.uploadedBy(ServiceFuture.submit(executor, new Callable<OperationLocation>() {
+            @Override
+            public OperationLocation call() throws Exception {
+                return enroll(audioStream, id, forceShortAudio);
+            }
+        }, callback));
+    }
+
+    @Override
+    public ServiceFuture<EnrollmentOperation> checkEnrollmentStatusAsync(final OperationLocation location, ServiceCallback<? super EnrollmentOperation> callback) {
+        return enrollmentStatusCache.getAsync(location, new OperationStatusCache.AsyncStatusCheck<EnrollmentOperation>() {
+            @Override
+            public ServiceFuture<EnrollmentOperation> check(ServiceCallback<EnrollmentOperation> callback) {
+                return ServiceFuture.submit(executor, new Callable<EnrollmentOperation>() {
+                    @Override
+                    public EnrollmentOperation call() throws Exception {
+                        return fetchEnrollmentStatus(location);
+                    }
+                }, callback);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<IdentificationOperation> checkIdentificationStatusAsync(final OperationLocation location, ServiceCallback<? super IdentificationOperation> callback) {
+        return identificationStatusCache.getAsync(location, new OperationStatusCache.AsyncStatusCheck<IdentificationOperation>() {
+            @Override
+            public ServiceFuture<IdentificationOperation> check(ServiceCallback<IdentificationOperation> callback) {
+                return ServiceFuture.submit(executor, new Callable<IdentificationOperation>() {
+                    @Override
+                    public IdentificationOperation call() throws Exception {
+                        return fetchIdentificationStatus(location);
+                    }
+                }, callback);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Void> resetEnrollmentsAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return ServiceFuture.submit(executor, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                resetEnrollments(id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> resetEnrollmentsAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return resetEnrollmentsAsync(id, null);
+            }
+        }, callback);
     }
 }
@@ -13,18 +13,22 @@ import com.microsoft.cognitive.speakerrecognition.contract.identification.Identi
 import com.microsoft.cognitive.speakerrecognition.contract.identification.IdentificationOperation;
 import com.microsoft.cognitive.speakerrecognition.contract.identification.OperationLocation;
 import com.microsoft.cognitive.speakerrecognition.contract.identification.Profile;
+import com.microsoft.cognitive.speakerrecognition.contract.identification.Status;
 import com.microsoft.cognitive.speakerrecognition.contract.ProfileLocale;
 import com.squareup.moshi.Moshi;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import okhttp3.MediaType;
 import okhttp3.RequestBody;
+import retrofit2.Call;
 import retrofit2.Response;
 
 /**
@@ -37,37 +41,237 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
      */
     private static final String _OPERATION_LOCATION_HEADER = "Operation-Location";
 
+    /**
+     * The number of succeeded or failed operations remembered, their status never changing
+     */
+    private static final int TERMINAL_OPERATION_CACHE_SIZE = 1024;
+
+    /**
+     * Extracts the ID of the profiles cached by the client
+     */
+    static final ProfileCache.ProfileIds<Profile> PROFILE_IDS = new ProfileCache.ProfileIds<Profile>() {
+        @Override
+        public UUID idOf(Profile profile) {
+            return profile.identificationProfileId;
+        }
+    };
+
+    /**
+     * A remembered identification, along with the location of its operation
+     */
+    static final class MemoizedIdentification {
+
+        final String url;
+        final IdentificationOperation operation;
+
+        MemoizedIdentification(String url, IdentificationOperation operation) {
+            this.url = url;
+            this.operation = operation;
+        }
+    }
+
     private final IdentificationProfileApi identificationProfileApi;
     private final SpeakerRecognitionApi speakerRecognitionApi;
+    private final AudioUploads audioUploads;
+    private final ProfileCache<Profile> profileCache;
+    private final ResultMemo<MemoizedIdentification> identificationMemo;
+    private final OperationStatusCache<EnrollmentOperation, EnrollmentException> enrollmentStatusCache =
+            new OperationStatusCache<>(EnrollmentException.class, TERMINAL_OPERATION_CACHE_SIZE);
+    private final OperationStatusCache<IdentificationOperation, IdentificationException> identificationStatusCache =
+            new OperationStatusCache<>(IdentificationException.class, TERMINAL_OPERATION_CACHE_SIZE);
     private Moshi moshi;
 
-    protected SpeakerIdentificationRetrofitClient(IdentificationProfileApi identificationProfileApi, SpeakerRecognitionApi speakerRecognitionApi, Moshi moshi) {
+    protected SpeakerIdentificationRetrofitClient(IdentificationProfileApi identificationProfileApi, SpeakerRecognitionApi speakerRecognitionApi, AudioUploads audioUploads, ProfileCache<Profile> profileCache, ResultMemo<MemoizedIdentification> identificationMemo, Moshi moshi) {
         this.identificationProfileApi = identificationProfileApi;
         this.speakerRecognitionApi = speakerRecognitionApi;
+        this.audioUploads = audioUploads;
+        this.profileCache = profileCache;
+        this.identificationMemo = identificationMemo;
         this.moshi = moshi;
     }
 
-    // The use of input stream leaves closing the stream to the caller of the API... not terribly nice (for OkHttp users)
-    // OkHttp needs to be able to read the body content for redirects or retries, so it can't be closed prematurely
     @Override
     public OperationLocation identify(InputStream audioStream, List<UUID> ids) throws IdentificationException, IOException {
-        return null;
+        return identify(audioStream, ids, false);
     }
 
-    // The use of input stream leaves closing the stream to the caller of the API... not terribly nice (for OkHttp users)
-    // OkHttp needs to be able to read the body content for redirects or retries, so it can't be closed prematurely
     @Override
     public OperationLocation identify(InputStream audioStream, List<UUID> ids, boolean forceShortAudio) throws IdentificationException, IOException {
-        return null;
+        RequestBody requestBody = audioUploads.fromStream(audioStream);
+
+        return handleIdentify(speakerRecognitionApi.identify(requestBody, buildProfileIdsString(ids), forceShortAudio).execute());
     }
 
     @Override
     public OperationLocation identify(File audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException {
-        MediaType mediaType = MediaType.parse("multipart/form-data");
-        RequestBody requestBody = RequestBody.create(mediaType, audio);
+        if (identificationMemo.isEnabled()) {
+            return identify(AudioPayload.map(audio), ids, shortAudio);
+        }
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new IdentificationException(problem);
+        }
+        return handleIdentify(identifyCall(audioUploads.fromFile(audio), ids, shortAudio).execute());
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(File audio, List<UUID> ids, boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        if (identificationMemo.isEnabled()) {
+            try {
+                return identifyAsync(AudioPayload.map(audio), ids, shortAudio, callback);
+            } catch (IOException e) {
+                return ServiceFuture.failed(e, callback);
+            }
+        }
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new IdentificationException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(identifyCall(audioUploads.fromFile(audio), ids, shortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                return handleIdentify(response);
+            }
+        }, callback);
+    }
+
+    @Override
+    public OperationLocation identify(AudioPayload audio, List<UUID> ids, boolean shortAudio) throws IdentificationException, IOException {
+        return identify(audio, ids, buildProfileIdsString(ids), shortAudio);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(AudioPayload audio, List<UUID> ids, boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        return identifyAsync(audio, ids, buildProfileIdsString(ids), shortAudio, callback);
+    }
 
-        Response<Void> response = speakerRecognitionApi.identify(requestBody, buildProfileIdsString(ids), shortAudio).execute();
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(AudioCapture audio, List<UUID> ids, boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        RequestBody requestBody;
+        try {
+            requestBody = audioUploads.fromCapture(audio);
+        } catch (IOException e) {
+            return ServiceFuture.failed(e, callback);
+        }
+        return audio.uploadedBy(RetrofitCalls.enqueue(identifyCall(requestBody, ids, shortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                return handleIdentify(response);
+            }
+        }, callback));
+    }
 
+    @Override
+    public OperationLocation identify(File audio, SpeakerGroup group, boolean shortAudio) throws IdentificationException, IOException {
+        group.checkIdentifiable();
+        if (identificationMemo.isEnabled()) {
+            return identify(AudioPayload.map(audio), group, shortAudio);
+        }
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new IdentificationException(problem);
+        }
+        return handleIdentify(identifyCall(audioUploads.fromFile(audio), group.getEnrolledIdsParam(), shortAudio).execute());
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(File audio, SpeakerGroup group, boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        if (!group.isIdentifiable()) {
+            return ServiceFuture.failed(group.notIdentifiable(), callback);
+        }
+        if (identificationMemo.isEnabled()) {
+            try {
+                return identifyAsync(AudioPayload.map(audio), group, shortAudio, callback);
+            } catch (IOException e) {
+                return ServiceFuture.failed(e, callback);
+            }
+        }
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new IdentificationException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(identifyCall(audioUploads.fromFile(audio), group.getEnrolledIdsParam(), shortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                return handleIdentify(response);
+            }
+        }, callback);
+    }
+
+    @Override
+    public OperationLocation identify(AudioPayload audio, SpeakerGroup group, boolean shortAudio) throws IdentificationException, IOException {
+        group.checkIdentifiable();
+        return identify(audio, group.getEnrolledIds(), group.getEnrolledIdsParam(), shortAudio);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> identifyAsync(AudioPayload audio, SpeakerGroup group, boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        if (!group.isIdentifiable()) {
+            return ServiceFuture.failed(group.notIdentifiable(), callback);
+        }
+        return identifyAsync(audio, group.getEnrolledIds(), group.getEnrolledIdsParam(), shortAudio, callback);
+    }
+
+    private OperationLocation identify(AudioPayload audio, List<UUID> ids, String idsParam, boolean shortAudio) throws IdentificationException, IOException {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new IdentificationException(problem);
+        }
+        String key = identificationMemo.key(audio, ids, "shortAudio=" + shortAudio);
+        OperationLocation memoized = memoizedIdentification(key);
+        if (memoized != null) {
+            return memoized;
+        }
+        long version = identificationMemo.version();
+        OperationLocation location = handleIdentify(identifyCall(audioUploads.fromPayload(audio), idsParam, shortAudio).execute());
+        identificationMemo.expect(location.Url, key, ids, version);
+        return location;
+    }
+
+    private ServiceFuture<OperationLocation> identifyAsync(AudioPayload audio, final List<UUID> ids, String idsParam, boolean shortAudio, ServiceCallback<? super OperationLocation> callback) {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new IdentificationException(problem), callback);
+        }
+        final String key = identificationMemo.key(audio, ids, "shortAudio=" + shortAudio);
+        OperationLocation memoized = memoizedIdentification(key);
+        if (memoized != null) {
+            return ServiceFuture.completed(memoized, callback);
+        }
+        final long version = identificationMemo.version();
+        return RetrofitCalls.enqueue(identifyCall(audioUploads.fromPayload(audio), idsParam, shortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                OperationLocation location = handleIdentify(response);
+                identificationMemo.expect(location.Url, key, ids, version);
+                return location;
+            }
+        }, callback);
+    }
+
+    /**
+     * Gets the location of a remembered identification, whose status checks then return the remembered result
+     */
+    private OperationLocation memoizedIdentification(String key) {
+        MemoizedIdentification memoized = identificationMemo.get(key);
+        if (memoized == null) {
+            return null;
+        }
+        OperationLocation location = new OperationLocation();
+        location.Url = memoized.url;
+        identificationStatusCache.remember(location, memoized.operation);
+        return location;
+    }
+
+    private Call<Void> identifyCall(RequestBody requestBody, List<UUID> ids, boolean shortAudio) {
+        return identifyCall(requestBody, buildProfileIdsString(ids), shortAudio);
+    }
+
+    private Call<Void> identifyCall(RequestBody requestBody, String idsParam, boolean shortAudio) {
+        return speakerRecognitionApi.identify(requestBody, idsParam, shortAudio);
+    }
+
+    private OperationLocation handleIdentify(Response<Void> response) throws IdentificationException, IOException {
         if (response.isSuccessful()) {
             OperationLocation opLoc = new OperationLocation();
             opLoc.Url = response.headers().get(_OPERATION_LOCATION_HEADER);
@@ -84,8 +288,36 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
 
     @Override
     public CreateProfileResponse createProfile(String locale) throws CreateProfileException, IOException {
-        Response<CreateProfileResponse> response = identificationProfileApi.createProfile(new ProfileLocale(locale)).execute();
+        return handleCreateProfile(identificationProfileApi.createProfile(new ProfileLocale(locale)).execute());
+    }
+
+    @Override
+    public ServiceFuture<CreateProfileResponse> createProfileAsync(String locale, ServiceCallback<? super CreateProfileResponse> callback) {
+        return RetrofitCalls.enqueue(identificationProfileApi.createProfile(new ProfileLocale(locale)), new RetrofitCalls.ResponseHandler<CreateProfileResponse, CreateProfileResponse>() {
+            @Override
+            public CreateProfileResponse handle(Response<CreateProfileResponse> response) throws Exception {
+                return handleCreateProfile(response);
+            }
+        }, callback);
+    }
+
+    @Override
+    public BulkResult<Integer, CreateProfileResponse> createProfiles(int count, String locale, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(createProfilesAsync(count, locale, policy, null));
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<Integer, CreateProfileResponse>> createProfilesAsync(int count, final String locale, BulkPolicy policy, ServiceCallback<? super BulkResult<Integer, CreateProfileResponse>> callback) {
+        return BulkExecutor.run(BulkExecutor.indices(count), policy, new BulkExecutor.ItemCall<Integer, CreateProfileResponse>() {
+            @Override
+            public ServiceFuture<CreateProfileResponse> start(Integer index) {
+                return createProfileAsync(locale, null);
+            }
+        }, callback);
+    }
 
+    private CreateProfileResponse handleCreateProfile(Response<CreateProfileResponse> response) throws CreateProfileException, IOException {
+        profileCache.invalidateList();
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -100,8 +332,38 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
 
     @Override
     public void deleteProfile(UUID id) throws DeleteProfileException, IOException {
-        Response<Void> response = identificationProfileApi.deleteProfile(id.toString()).execute();
+        handleDeleteProfile(identificationProfileApi.deleteProfile(id.toString()).execute(), id);
+    }
+
+    @Override
+    public ServiceFuture<Void> deleteProfileAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return RetrofitCalls.enqueue(identificationProfileApi.deleteProfile(id.toString()), new RetrofitCalls.ResponseHandler<Void, Void>() {
+            @Override
+            public Void handle(Response<Void> response) throws Exception {
+                handleDeleteProfile(response, id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public BulkResult<UUID, Void> deleteProfiles(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(deleteProfilesAsync(ids, policy, null));
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> deleteProfilesAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return deleteProfileAsync(id, null);
+            }
+        }, callback);
+    }
 
+    private void handleDeleteProfile(Response<Void> response, UUID id) throws DeleteProfileException, IOException {
+        profileCache.invalidate(id);
+        identificationMemo.invalidate(id);
         if (response.isSuccessful()) {
             return;
         } else {
@@ -116,8 +378,34 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
 
     @Override
     public Profile getProfile(UUID id) throws GetProfileException, IOException {
-        Response<Profile> response = identificationProfileApi.getProfile(id.toString()).execute();
+        Profile cached = profileCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long version = profileCache.version();
+        Profile profile = handleGetProfile(identificationProfileApi.getProfile(id.toString()).execute());
+        profileCache.put(profile, version);
+        return profile;
+    }
 
+    @Override
+    public ServiceFuture<Profile> getProfileAsync(UUID id, ServiceCallback<? super Profile> callback) {
+        Profile cached = profileCache.get(id);
+        if (cached != null) {
+            return ServiceFuture.completed(cached, callback);
+        }
+        final long version = profileCache.version();
+        return RetrofitCalls.enqueue(identificationProfileApi.getProfile(id.toString()), new RetrofitCalls.ResponseHandler<Profile, Profile>() {
+            @Override
+            public Profile handle(Response<Profile> response) throws Exception {
+                Profile profile = handleGetProfile(response);
+                profileCache.put(profile, version);
+                return profile;
+            }
+        }, callback);
+    }
+
+    private <T> T handleGetProfile(Response<T> response) throws GetProfileException, IOException {
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -132,43 +420,114 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
 
     @Override
     public List<Profile> getProfiles() throws GetProfileException, IOException {
-        Response<List<Profile>> response = identificationProfileApi.getProfiles().execute();
+        List<Profile> cached = profileCache.getAll();
+        if (cached != null) {
+            return cached;
+        }
+        long version = profileCache.version();
+        List<Profile> profiles = handleGetProfile(identificationProfileApi.getProfiles().execute());
+        profileCache.putAll(profiles, version);
+        return profiles;
+    }
 
-        if (response.isSuccessful()) {
-            return response.body();
-        } else {
-            ErrorResponse errorResponse = moshi.adapter(ErrorResponse.class).fromJson(response.errorBody().source());
-            if (errorResponse != null) {
-                throw new GetProfileException(errorResponse.error.message);
-            } else {
-                throw new GetProfileException(String.valueOf(response.code()));
-            }
+    @Override
+    public ServiceFuture<List<Profile>> getProfilesAsync(ServiceCallback<? super List<Profile>> callback) {
+        List<Profile> cached = profileCache.getAll();
+        if (cached != null) {
+            return ServiceFuture.completed(cached, callback);
         }
+        final long version = profileCache.version();
+        return RetrofitCalls.enqueue(identificationProfileApi.getProfiles(), new RetrofitCalls.ResponseHandler<List<Profile>, List<Profile>>() {
+            @Override
+            public List<Profile> handle(Response<List<Profile>> response) throws Exception {
+                List<Profile> profiles = handleGetProfile(response);
+                profileCache.putAll(profiles, version);
+                return profiles;
+            }
+        }, callback);
     }
 
     @Override
     public OperationLocation enroll(InputStream audioStream, UUID id) throws EnrollmentException, IOException {
-        // The use of input stream leaves closing the stream to the caller of the API... not terribly nice (for OkHttp users)
-        // OkHttp needs to be able to read the body content for redirects or retries, so it can't be closed prematurely
-        return null;
+        return enroll(audioStream, id, false);
     }
 
     @Override
     public OperationLocation enroll(InputStream audioStream, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
-        // The use of input stream leaves closing the stream to the caller of the API... not terribly nice (for OkHttp users)
-        // OkHttp needs to be able to read the body content for redirects or retries, so it can't be closed prematurely
-        return null;
+        RequestBody requestBody = audioUploads.fromStream(audioStream);
+
+        return handleEnroll(identificationProfileApi.enroll(requestBody, id.toString(), forceShortAudio).execute(), id);
     }
 
     @Override
     public OperationLocation enroll(File audio, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
-        MediaType mediaType = MediaType.parse("multipart/form-data");
-        RequestBody requestBody = RequestBody.create(mediaType, audio);
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new EnrollmentException(problem);
+        }
+        return handleEnroll(enrollCall(audioUploads.fromFile(audio), id, forceShortAudio).execute(), id);
+    }
 
-        Response<Void> response = identificationProfileApi
-                .enroll(requestBody, id.toString(), forceShortAudio)
-                .execute();
+    @Override
+    public ServiceFuture<OperationLocation> enrollAsync(File audio, final UUID id, boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback) {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new EnrollmentException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(enrollCall(audioUploads.fromFile(audio), id, forceShortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                return handleEnroll(response, id);
+            }
+        }, callback);
+    }
 
+    @Override
+    public OperationLocation enroll(AudioPayload audio, UUID id, boolean forceShortAudio) throws EnrollmentException, IOException {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new EnrollmentException(problem);
+        }
+        return handleEnroll(enrollCall(audioUploads.fromPayload(audio), id, forceShortAudio).execute(), id);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> enrollAsync(AudioPayload audio, final UUID id, boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback) {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new EnrollmentException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(enrollCall(audioUploads.fromPayload(audio), id, forceShortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                return handleEnroll(response, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<OperationLocation> enrollAsync(AudioCapture audio, final UUID id, boolean forceShortAudio, ServiceCallback<? super OperationLocation> callback) {
+        RequestBody requestBody;
+        try {
+            requestBody = audioUploads.fromCapture(audio);
+        } catch (IOException e) {
+            return ServiceFuture.failed(e, callback);
+        }
+        return audio.uploadedBy(RetrofitCalls.enqueue(enrollCall(requestBody, id, forceShortAudio), new RetrofitCalls.ResponseHandler<Void, OperationLocation>() {
+            @Override
+            public OperationLocation handle(Response<Void> response) throws Exception {
+                return handleEnroll(response, id);
+            }
+        }, callback));
+    }
+
+    private Call<Void> enrollCall(RequestBody requestBody, UUID id, boolean forceShortAudio) {
+        return identificationProfileApi.enroll(requestBody, id.toString(), forceShortAudio);
+    }
+
+    private OperationLocation handleEnroll(Response<Void> response, UUID id) throws EnrollmentException, IOException {
+        profileCache.invalidate(id);
+        identificationMemo.invalidate(id);
         if (response.isSuccessful()) {
             OperationLocation opLoc = new OperationLocation();
             opLoc.Url = response.headers().get(_OPERATION_LOCATION_HEADER);
@@ -184,11 +543,39 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
     }
 
     @Override
-    public EnrollmentOperation checkEnrollmentStatus(OperationLocation location) throws EnrollmentException, IOException {
-        Response<EnrollmentOperation> response = speakerRecognitionApi.checkEnrollmentStatus(location.Url).execute();
+    public EnrollmentOperation checkEnrollmentStatus(final OperationLocation location) throws EnrollmentException, IOException {
+        return enrollmentStatusCache.get(location, new OperationStatusCache.StatusCheck<EnrollmentOperation, EnrollmentException>() {
+            @Override
+            public EnrollmentOperation check() throws EnrollmentException, IOException {
+                return handleCheckEnrollmentStatus(speakerRecognitionApi.checkEnrollmentStatus(location.Url).execute());
+            }
+        });
+    }
+
+    @Override
+    public ServiceFuture<EnrollmentOperation> checkEnrollmentStatusAsync(final OperationLocation location, ServiceCallback<? super EnrollmentOperation> callback) {
+        return enrollmentStatusCache.getAsync(location, new OperationStatusCache.AsyncStatusCheck<EnrollmentOperation>() {
+            @Override
+            public ServiceFuture<EnrollmentOperation> check(ServiceCallback<EnrollmentOperation> callback) {
+                return RetrofitCalls.enqueue(speakerRecognitionApi.checkEnrollmentStatus(location.Url), new RetrofitCalls.ResponseHandler<EnrollmentOperation, EnrollmentOperation>() {
+                    @Override
+                    public EnrollmentOperation handle(Response<EnrollmentOperation> response) throws Exception {
+                        return handleCheckEnrollmentStatus(response);
+                    }
+                }, callback);
+            }
+        }, callback);
+    }
 
+    private EnrollmentOperation handleCheckEnrollmentStatus(Response<EnrollmentOperation> response) throws EnrollmentException, IOException {
         if (response.isSuccessful()) {
-            return response.body();
+            EnrollmentOperation operation = response.body();
+            if (operation != null && OperationPoller.isTerminal(operation)) {
+                // The operation doesn't tell which profile completed its enrollment
+                profileCache.clear();
+                identificationMemo.clear();
+            }
+            return operation;
         } else {
             ErrorResponse errorResponse = moshi.adapter(ErrorResponse.class).fromJson(response.errorBody().source());
             if (errorResponse != null) {
@@ -200,11 +587,67 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
     }
 
     @Override
-    public IdentificationOperation checkIdentificationStatus(OperationLocation location) throws IdentificationException, IOException {
-        Response<IdentificationOperation> response = speakerRecognitionApi.checkIdentificationStatus(location.Url).execute();
+    public IdentificationOperation checkIdentificationStatus(final OperationLocation location) throws IdentificationException, IOException {
+        return identificationStatusCache.get(location, new OperationStatusCache.StatusCheck<IdentificationOperation, IdentificationException>() {
+            @Override
+            public IdentificationOperation check() throws IdentificationException, IOException {
+                return handleCheckIdentificationStatus(location, speakerRecognitionApi.checkIdentificationStatus(location.Url).execute());
+            }
+        });
+    }
+
+    @Override
+    public EnrollmentOperation awaitEnrollment(OperationLocation location, long timeout, TimeUnit unit) throws EnrollmentException, IOException, InterruptedException, TimeoutException {
+        return awaitEnrollment(location, PollingPolicy.DEFAULT, timeout, unit);
+    }
+
+    @Override
+    public EnrollmentOperation awaitEnrollment(final OperationLocation location, PollingPolicy policy, long timeout, TimeUnit unit) throws EnrollmentException, IOException, InterruptedException, TimeoutException {
+        return OperationPoller.await(new OperationPoller.StatusCheck<EnrollmentOperation, EnrollmentException>() {
+            @Override
+            public EnrollmentOperation check() throws EnrollmentException, IOException {
+                return checkEnrollmentStatus(location);
+            }
+        }, policy, timeout, unit);
+    }
+
+    @Override
+    public IdentificationOperation awaitIdentification(OperationLocation location, long timeout, TimeUnit unit) throws IdentificationException, IOException, InterruptedException, TimeoutException {
+        return awaitIdentification(location, PollingPolicy.DEFAULT, timeout, unit);
+    }
 
+    @Override
+    public IdentificationOperation awaitIdentification(final OperationLocation location, PollingPolicy policy, long timeout, TimeUnit unit) throws IdentificationException, IOException, InterruptedException, TimeoutException {
+        return OperationPoller.await(new OperationPoller.StatusCheck<IdentificationOperation, IdentificationException>() {
+            @Override
+            public IdentificationOperation check() throws IdentificationException, IOException {
+                return checkIdentificationStatus(location);
+            }
+        }, policy, timeout, unit);
+    }
+
+    @Override
+    public ServiceFuture<IdentificationOperation> checkIdentificationStatusAsync(final OperationLocation location, ServiceCallback<? super IdentificationOperation> callback) {
+        return identificationStatusCache.getAsync(location, new OperationStatusCache.AsyncStatusCheck<IdentificationOperation>() {
+            @Override
+            public ServiceFuture<IdentificationOperation> check(ServiceCallback<IdentificationOperation> callback) {
+                return RetrofitCalls.enqueue(speakerRecognitionApi.checkIdentificationStatus(location.Url), new RetrofitCalls.ResponseHandler<IdentificationOperation, IdentificationOperation>() {
+                    @Override
+                    public IdentificationOperation handle(Response<IdentificationOperation> response) throws Exception {
+                        return handleCheckIdentificationStatus(location, response);
+                    }
+                }, callback);
+            }
+        }, callback);
+    }
+
+    private IdentificationOperation handleCheckIdentificationStatus(OperationLocation location, Response<IdentificationOperation> response) throws IdentificationException, IOException {
         if (response.isSuccessful()) {
-            return response.body();
+            IdentificationOperation operation = response.body();
+            if (operation != null && operation.status == Status.SUCCEEDED) {
+                identificationMemo.fulfil(location.Url, new MemoizedIdentification(location.Url, operation));
+            }
+            return operation;
         } else {
             ErrorResponse errorResponse = moshi.adapter(ErrorResponse.class).fromJson(response.errorBody().source());
             if (errorResponse != null) {
@@ -217,8 +660,38 @@ public class SpeakerIdentificationRetrofitClient implements SpeakerIdentificatio
 
     @Override
     public void resetEnrollments(UUID id) throws ResetEnrollmentsException, IOException {
-        Response<Void> response = identificationProfileApi.resetEnrollments(id.toString()).execute();
+        handleResetEnrollments(identificationProfileApi.resetEnrollments(id.toString()).execute(), id);
+    }
+
+    @Override
+    public ServiceFuture<Void> resetEnrollmentsAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return RetrofitCalls.enqueue(identificationProfileApi.resetEnrollments(id.toString()), new RetrofitCalls.ResponseHandler<Void, Void>() {
+            @Override
+            public Void handle(Response<Void> response) throws Exception {
+                handleResetEnrollments(response, id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public BulkResult<UUID, Void> resetEnrollments(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(resetEnrollmentsAsync(ids, policy, null));
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> resetEnrollmentsAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return resetEnrollmentsAsync(id, null);
+            }
+        }, callback);
+    }
 
+    private void handleResetEnrollments(Response<Void> response, UUID id) throws ResetEnrollmentsException, IOException {
+        profileCache.invalidate(id);
+        identificationMemo.invalidate(id);
         if (response.isSuccessful()) {
             return;
         } else {
@@ -32,25 +32,41 @@
 //
 package com.microsoft.cognitive.speakerrecognition;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.http.Consts;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.ParseException;
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
 
 import okhttp3.Request;
 
@@ -74,6 +90,46 @@ class SpeakerRestClientHelper {
      */
     private static final String JSON_HEADER_VALUE_ACCEPT = "application/json";
 
+    /**
+     * Number of threads running asynchronous calls when no executor is supplied
+     */
+    private static final int DEFAULT_ASYNC_THREADS = 4;
+
+    /**
+     * Executor shared by all clients constructed without an executor
+     */
+    private static ExecutorService defaultExecutor;
+
+    /**
+     * Maximum number of pooled connections, all clients talk to a single host so this is also the per-route limit
+     */
+    private static final int MAX_CONNECTIONS = 20;
+
+    /**
+     * Milliseconds to wait for a free pooled connection before failing the request
+     */
+    private static final long CONNECTION_POOL_TIMEOUT_MS = 30 * 1000;
+
+    /**
+     * Milliseconds to wait while establishing a connection
+     */
+    private static final int CONNECTION_TIMEOUT_MS = 30 * 1000;
+
+    /**
+     * Milliseconds to wait for response data
+     */
+    private static final int SOCKET_TIMEOUT_MS = 60 * 1000;
+
+    /**
+     * Milliseconds an idle connection is kept alive when the server doesn't specify a keep-alive timeout
+     */
+    private static final long DEFAULT_KEEP_ALIVE_MS = 30 * 1000;
+
+    /**
+     * Http client shared by all clients constructed without an Http client
+     */
+    private static HttpClient sharedHttpClient;
+
     /**
      * Subscription key
      */
@@ -87,6 +143,91 @@ class SpeakerRestClientHelper {
 
     //----------------------------------------------------------------------------------------------
 
+    /**
+     * Gets the executor running asynchronous calls of clients constructed without an executor
+     *
+     * @return A shared fixed pool of daemon threads
+     */
+    static synchronized ExecutorService getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = Executors.newFixedThreadPool(DEFAULT_ASYNC_THREADS, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "SpeakerRestClient-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Gets the Http client used by clients constructed without one.
+     * It is backed by a thread-safe connection pool, so connections and their TLS sessions are reused
+     * across requests and calls from many threads run concurrently.
+     *
+     * @return A shared, thread-safe Http client
+     */
+    // The legacy Apache API is the one bundled with Android as org.apache.http.legacy, its replacements aren't.
+    // Its deprecated types are fully qualified since imports can't suppress the warnings.
+    @SuppressWarnings("deprecation")
+    static synchronized HttpClient getSharedHttpClient() {
+        if (sharedHttpClient == null) {
+            org.apache.http.params.HttpParams params = new org.apache.http.params.BasicHttpParams();
+            org.apache.http.params.HttpProtocolParams.setVersion(params, HttpVersion.HTTP_1_1);
+            org.apache.http.params.HttpConnectionParams.setConnectionTimeout(params, CONNECTION_TIMEOUT_MS);
+            org.apache.http.params.HttpConnectionParams.setSoTimeout(params, SOCKET_TIMEOUT_MS);
+            org.apache.http.params.HttpConnectionParams.setStaleCheckingEnabled(params, true);
+            org.apache.http.conn.params.ConnManagerParams.setMaxTotalConnections(params, MAX_CONNECTIONS);
+            org.apache.http.conn.params.ConnManagerParams.setMaxConnectionsPerRoute(params,
+                    new org.apache.http.conn.params.ConnPerRouteBean(MAX_CONNECTIONS));
+            org.apache.http.conn.params.ConnManagerParams.setTimeout(params, CONNECTION_POOL_TIMEOUT_MS);
+
+            org.apache.http.conn.scheme.SchemeRegistry schemeRegistry = new org.apache.http.conn.scheme.SchemeRegistry();
+            schemeRegistry.register(new org.apache.http.conn.scheme.Scheme("http",
+                    org.apache.http.conn.scheme.PlainSocketFactory.getSocketFactory(), 80));
+            schemeRegistry.register(new org.apache.http.conn.scheme.Scheme("https",
+                    org.apache.http.conn.ssl.SSLSocketFactory.getSocketFactory(), 443));
+
+            org.apache.http.impl.client.DefaultHttpClient httpClient = new org.apache.http.impl.client.DefaultHttpClient(
+                    new org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager(params, schemeRegistry), params);
+            httpClient.setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+                private final ConnectionKeepAliveStrategy serverStrategy = new DefaultConnectionKeepAliveStrategy();
+
+                @Override
+                public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                    long duration = serverStrategy.getKeepAliveDuration(response, context);
+                    return duration > 0 ? duration : DEFAULT_KEEP_ALIVE_MS;
+                }
+            });
+            sharedHttpClient = httpClient;
+        }
+        return sharedHttpClient;
+    }
+
+    /**
+     * Consumes any remaining content of an HTTP response, releasing its connection back to the pool.
+     * Called from finally blocks, so a failure is ignored rather than replacing the exception of the call:
+     * the connection is then closed instead of being reused.
+     *
+     * @param response HTTP response
+     */
+    // HttpEntity.consumeContent is the only way to release a connection in the legacy Apache API bundled with Android
+    @SuppressWarnings("deprecation")
+    void consume(HttpResponse response) {
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            try {
+                entity.consumeContent();
+            } catch (IOException e) {
+                // The connection manager discards the connection
+            }
+        }
+    }
+
     /**
      * Retrieves the status code of an HTTP response
      *
@@ -127,45 +268,59 @@ class SpeakerRestClientHelper {
     }
 
     /**
-     * Converts an HTTP response to a string
+     * Decodes the JSON body of an HTTP response while it is read from the connection,
+     * using the charset declared by the response, or UTF-8 if there is none
      *
+     * @param gson     The Gson instance used to decode the body
      * @param response HTTP response
-     * @return A string representation of the HTTP response
-     * @throws IOException Signals that a content stream couldn't be created from the HTTP response entity
-     */
-    String httpResponseToString(HttpResponse response) throws IOException {
-        InputStream responseStream = response.getEntity().getContent();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(responseStream));
-        String str;
-        StringBuilder stringResponse = new StringBuilder();
-        while ((str = reader.readLine()) != null) {
-            stringResponse.append(str);
+     * @param type     The type of the decoded object
+     * @return The decoded object, or null if the response has no body
+     * @throws IOException Signals a failure while reading the response entity, or malformed JSON content
+     */
+    <T> T readJson(Gson gson, HttpResponse response, Type type) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return null;
+        }
+        Reader reader = new InputStreamReader(entity.getContent(), getCharset(entity));
+        try {
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Malformed JSON response", e);
+        } finally {
+            reader.close();
         }
-        return stringResponse.toString();
+    }
+
+    private static Charset getCharset(HttpEntity entity) {
+        try {
+            ContentType contentType = ContentType.get(entity);
+            if (contentType != null && contentType.getCharset() != null) {
+                return contentType.getCharset();
+            }
+        } catch (ParseException | UnsupportedCharsetException e) {
+            // Fall back to the JSON default below
+        }
+        return Consts.UTF_8;
     }
 
     /**
-     * Adds a stream to an HTTP entity
+     * Adds a stream to an HTTP entity without buffering it, the stream is read while the request is written
      *
-     * @param someStream Input stream to be added to an HTTP entity
-     * @param fieldName  A description of the entity content
-     * @param fileName   Name of the file attached as an entity
+     * @param someStream    Input stream to be added to an HTTP entity
+     * @param contentLength The number of bytes in the stream, or -1 if unknown
+     * @param fieldName     A description of the entity content
+     * @param fileName      Name of the file attached as an entity
      * @return HTTP entity
-     * @throws IOException Signals a failure while reading the input stream
-     */
-    HttpEntity addStreamToEntity(InputStream someStream, String fieldName, String fileName) throws IOException {
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        int bytesRead;
-        byte[] bytes = new byte[1024];
-        while ((bytesRead = someStream.read(bytes)) > 0) {
-            byteArrayOutputStream.write(bytes, 0, bytesRead);
-        }
-        byte[] data = byteArrayOutputStream.toByteArray();
-
+     */
+    HttpEntity addStreamToEntity(InputStream someStream, long contentLength, String fieldName, String fileName) {
         MultipartEntityBuilder builder = MultipartEntityBuilder.create();
         builder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
         builder.setStrictMode();
-        builder.addBinaryBody(fieldName, data, ContentType.MULTIPART_FORM_DATA, fileName);
+        builder.addPart(fieldName, new StreamingAudioBody(someStream, contentLength, ContentType.MULTIPART_FORM_DATA, fileName));
         return builder.build();
     }
 
@@ -50,6 +50,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -68,6 +69,18 @@ public interface SpeakerVerificationClient {
      */
     CreateProfileResponse createProfile(String locale) throws CreateProfileException, IOException;
 
+    /**
+     * Creates several speaker profiles, running the creations concurrently within the budget of a policy
+     *
+     * @param count  The number of profiles to create
+     * @param locale The speaker profile locale
+     * @param policy The concurrency and rate budget of the creations
+     * @return The created profile of each creation index from 0 to count - 1, and the {@link CreateProfileException}
+     * or {@link IOException} of each failed creation
+     * @throws InterruptedException Signals the thread was interrupted, the remaining creations are then cancelled
+     */
+    BulkResult<Integer, CreateProfileResponse> createProfiles(int count, String locale, BulkPolicy policy) throws InterruptedException;
+
     /**
      * Retrieves a given speaker profile as specified by the id parameter
      *
@@ -96,6 +109,17 @@ public interface SpeakerVerificationClient {
      */
     void deleteProfile(UUID id) throws DeleteProfileException, IOException;
 
+    /**
+     * Deletes several speaker profiles, running the deletions concurrently within the budget of a policy
+     *
+     * @param ids    The IDs of the speaker profiles to be deleted
+     * @param policy The concurrency and rate budget of the deletions
+     * @return The deleted profile IDs, and the {@link DeleteProfileException} or {@link IOException} of each profile
+     * which couldn't be deleted
+     * @throws InterruptedException Signals the thread was interrupted, the remaining deletions are then cancelled
+     */
+    BulkResult<UUID, Void> deleteProfiles(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException;
+
     /**
      * Gets a list of all available phrases for enrollments
      *
@@ -110,7 +134,7 @@ public interface SpeakerVerificationClient {
     /**
      * Enrolls a new stream for a given speaker
      *
-     * @param audioStream The stream to enroll
+     * @param audioStream The stream to enroll, read while the request is written and left open for the caller to close
      * @param id          The speaker profile speaker ID
      * @return Enrollment object encapsulating the enrollment response
      * @throws EnrollmentException Thrown in case of internal server error, wrong ID or an invalid audio format
@@ -131,10 +155,21 @@ public interface SpeakerVerificationClient {
      */
     Enrollment enroll(File audio, UUID id) throws EnrollmentException, IOException;
 
+    /**
+     * Enrolls a reusable audio payload for a given speaker
+     *
+     * @param audio The enrollment audio payload, which can be submitted again afterwards
+     * @param id    The speaker profile speaker ID
+     * @return Enrollment object encapsulating the enrollment response
+     * @throws EnrollmentException Thrown in case of internal server error, wrong ID or an invalid audio format
+     * @throws IOException         Signals a connection abortion, or an invalid response content
+     */
+    Enrollment enroll(AudioPayload audio, UUID id) throws EnrollmentException, IOException;
+
     /**
      * Verifies a given speaker using the speaker ID and audio stream
      *
-     * @param audioStream The stream of audio to be verified
+     * @param audioStream The stream of audio to be verified, read while the request is written and left open for the caller to close
      * @param id          The speaker ID
      * @return A verification object encapsulating the verification result
      * @throws VerificationException Thrown in case of invalid ID, invalid audio format or internal server error
@@ -155,6 +190,17 @@ public interface SpeakerVerificationClient {
      */
     Verification verify(File audio, UUID id) throws VerificationException, IOException;
 
+    /**
+     * Verifies a given speaker using the speaker ID and a reusable audio payload
+     *
+     * @param audio The audio payload to be verified, which can be submitted again afterwards
+     * @param id    The speaker ID
+     * @return A verification object encapsulating the verification result
+     * @throws VerificationException Thrown in case of invalid ID, invalid audio format or internal server error
+     * @throws IOException           Signals a connection abortion, or an invalid response content
+     */
+    Verification verify(AudioPayload audio, UUID id) throws VerificationException, IOException;
+
     /**
      * Deletes all enrollments associated with the given speaker verification profile permanently from the service
      *
@@ -163,4 +209,164 @@ public interface SpeakerVerificationClient {
      * @throws IOException               Signals a connection abortion, or an invalid response content
      */
     void resetEnrollments(UUID id) throws ResetEnrollmentsException, IOException;
+
+    /**
+     * Resets the enrollments of several speaker profiles, running the resets concurrently within the budget of a policy
+     *
+     * @param ids    The IDs of the speaker profiles to be reset
+     * @param policy The concurrency and rate budget of the resets
+     * @return The reset profile IDs, and the {@link ResetEnrollmentsException} or {@link IOException} of each profile
+     * which couldn't be reset
+     * @throws InterruptedException Signals the thread was interrupted, the remaining resets are then cancelled
+     */
+    BulkResult<UUID, Void> resetEnrollments(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException;
+
+    /**
+     * Asynchronously creates a new speaker profile
+     *
+     * @param locale   The speaker profile locale
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the created profile, or failed with a {@link CreateProfileException} or an {@link IOException}
+     */
+    ServiceFuture<CreateProfileResponse> createProfileAsync(String locale, ServiceCallback<? super CreateProfileResponse> callback);
+
+    /**
+     * Asynchronously creates several speaker profiles, running the creations concurrently within the budget of a policy
+     *
+     * @param count    The number of profiles to create
+     * @param locale   The speaker profile locale
+     * @param policy   The concurrency and rate budget of the creations
+     * @param callback An optional callback notified once every creation completed, may be null
+     * @return A future completed with the outcome of each creation index from 0 to count - 1. Cancelling it cancels
+     * the remaining creations.
+     */
+    ServiceFuture<BulkResult<Integer, CreateProfileResponse>> createProfilesAsync(int count, String locale, BulkPolicy policy, ServiceCallback<? super BulkResult<Integer, CreateProfileResponse>> callback);
+
+    /**
+     * Asynchronously retrieves a given speaker profile
+     *
+     * @param id       The speaker profile ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the requested profile, or failed with a {@link GetProfileException} or an {@link IOException}
+     */
+    ServiceFuture<Profile> getProfileAsync(UUID id, ServiceCallback<? super Profile> callback);
+
+    /**
+     * Asynchronously retrieves all available speaker profiles
+     *
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with all profiles, or failed with a {@link GetProfileException} or an {@link IOException}
+     */
+    ServiceFuture<List<Profile>> getProfilesAsync(ServiceCallback<? super List<Profile>> callback);
+
+    /**
+     * Asynchronously deletes a given speaker profile
+     *
+     * @param id       The ID of the speaker profile to be deleted
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed on deletion, or failed with a {@link DeleteProfileException} or an {@link IOException}
+     */
+    ServiceFuture<Void> deleteProfileAsync(UUID id, ServiceCallback<? super Void> callback);
+
+    /**
+     * Asynchronously deletes several speaker profiles, running the deletions concurrently within the budget of a policy
+     *
+     * @param ids      The IDs of the speaker profiles to be deleted
+     * @param policy   The concurrency and rate budget of the deletions
+     * @param callback An optional callback notified once every deletion completed, may be null
+     * @return A future completed with the outcome of each deletion. Cancelling it cancels the remaining deletions.
+     */
+    ServiceFuture<BulkResult<UUID, Void>> deleteProfilesAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback);
+
+    /**
+     * Asynchronously gets a list of all available phrases for enrollments
+     *
+     * @param locale   The locale of the phrases
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with all verification phrases, or failed with a {@link PhrasesException},
+     * an {@link IOException} or a {@link URISyntaxException}
+     */
+    ServiceFuture<List<VerificationPhrase>> getPhrasesAsync(String locale, ServiceCallback<? super List<VerificationPhrase>> callback);
+
+    /**
+     * Asynchronously enrolls a new WAV audio file for a given speaker
+     *
+     * @param audio    The .wav audio File to enroll
+     * @param id       The speaker profile speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment, or failed with an {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<Enrollment> enrollAsync(File audio, UUID id, ServiceCallback<? super Enrollment> callback);
+
+    /**
+     * Asynchronously enrolls a reusable audio payload for a given speaker
+     *
+     * @param audio    The enrollment audio payload, which can be submitted again afterwards
+     * @param id       The speaker profile speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment, or failed with an {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<Enrollment> enrollAsync(AudioPayload audio, UUID id, ServiceCallback<? super Enrollment> callback);
+
+    /**
+     * Asynchronously enrolls audio for a given speaker while it is being recorded, the audio is uploaded as it is
+     * written to the capture
+     *
+     * @param audio    The capture, which the recording thread writes to and then finishes
+     * @param id       The speaker profile speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the enrollment, or failed with an {@link EnrollmentException} or an {@link IOException}
+     */
+    ServiceFuture<Enrollment> enrollAsync(AudioCapture audio, UUID id, ServiceCallback<? super Enrollment> callback);
+
+    /**
+     * Asynchronously verifies a given speaker using the speaker ID and a WAV-type audio file
+     *
+     * @param audio    The .wav audio File to be verified
+     * @param id       The speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the verification result, or failed with a {@link VerificationException} or an {@link IOException}
+     */
+    ServiceFuture<Verification> verifyAsync(File audio, UUID id, ServiceCallback<? super Verification> callback);
+
+    /**
+     * Asynchronously verifies a given speaker using the speaker ID and a reusable audio payload
+     *
+     * @param audio    The audio payload to be verified, which can be submitted again afterwards
+     * @param id       The speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the verification result, or failed with a {@link VerificationException} or an {@link IOException}
+     */
+    ServiceFuture<Verification> verifyAsync(AudioPayload audio, UUID id, ServiceCallback<? super Verification> callback);
+
+    /**
+     * Asynchronously verifies a given speaker using audio being recorded, the audio is uploaded as it is written
+     * to the capture so the result follows shortly after the capture is finished
+     *
+     * @param audio    The capture, which the recording thread writes to and then finishes
+     * @param id       The speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed with the verification result, or failed with a {@link VerificationException} or an {@link IOException}
+     */
+    ServiceFuture<Verification> verifyAsync(AudioCapture audio, UUID id, ServiceCallback<? super Verification> callback);
+
+    /**
+     * Asynchronously deletes all enrollments associated with the given speaker verification profile
+     *
+     * @param id       The speaker ID
+     * @param callback An optional callback notified on completion, may be null
+     * @return A future completed on reset, or failed with a {@link ResetEnrollmentsException} or an {@link IOException}
+     */
+    ServiceFuture<Void> resetEnrollmentsAsync(UUID id, ServiceCallback<? super Void> callback);
+
+    /**
+     * Asynchronously resets the enrollments of several speaker profiles, running the resets concurrently within the
+     * budget of a policy
+     *
+     * @param ids      The IDs of the speaker profiles to be reset
+     * @param policy   The concurrency and rate budget of the resets
+     * @param callback An optional callback notified once every reset completed, may be null
+     * @return A future completed with the outcome of each reset. Cancelling it cancels the remaining resets.
+     */
+    ServiceFuture<BulkResult<UUID, Void>> resetEnrollmentsAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback);
 }
@@ -50,15 +50,19 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
@@ -68,7 +72,6 @@ import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.impl.client.DefaultHttpClient;
 import org.apache.http.message.BasicNameValuePair;
 
 /**
@@ -110,6 +113,11 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
      * Speaker client clientHelper
      */
     private SpeakerRestClientHelper clientHelper;
+
+    /**
+     * The executor running the asynchronous calls
+     */
+    private Executor executor;
     
     //----------------------------------------------------------------------------------------------
 
@@ -119,9 +127,31 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
      * @param subscriptionKey The subscription key
      */
     public SpeakerVerificationRestClient(String subscriptionKey) {
-        defaultHttpClient = new DefaultHttpClient();
+        this(subscriptionKey, SpeakerRestClientHelper.getDefaultExecutor());
+    }
+
+    /**
+     * Creates a new service client using a subscription key
+     *
+     * @param subscriptionKey The subscription key
+     * @param executor        The executor running the asynchronous calls, each of which occupies a thread while in flight
+     */
+    public SpeakerVerificationRestClient(String subscriptionKey, Executor executor) {
+        this(subscriptionKey, SpeakerRestClientHelper.getSharedHttpClient(), executor);
+    }
+
+    /**
+     * Creates a new service client using a subscription key
+     *
+     * @param subscriptionKey The subscription key
+     * @param httpClient      The Http client used to communicate with the service, it must be thread-safe to use the asynchronous calls
+     * @param executor        The executor running the asynchronous calls, each of which occupies a thread while in flight
+     */
+    public SpeakerVerificationRestClient(String subscriptionKey, HttpClient httpClient, Executor executor) {
+        defaultHttpClient = httpClient;
         gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:SS.SSS").create();
         clientHelper = new SpeakerRestClientHelper(subscriptionKey);
+        this.executor = executor;
     }
 
     //----------------------------------------------------------------------------------------------
@@ -144,22 +174,29 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
         request.setEntity(new UrlEncodedFormEntity(paramsList));
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, CreateProfileResponse.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new CreateProfileException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, CreateProfileResponse.class);
             } else {
-                throw new CreateProfileException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new CreateProfileException(errorResponse.error.message);
+                } else {
+                    throw new CreateProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    @Override
+    public BulkResult<Integer, CreateProfileResponse> createProfiles(int count, String locale, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(createProfilesAsync(count, locale, policy, null));
+    }
+
     /**
      * Retrieves a given speaker profile as specified by the id parameter
      *
@@ -174,19 +211,21 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(BASE_URI + "/" + id.toString(), RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, Profile.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new GetProfileException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, Profile.class);
             } else {
-                throw new GetProfileException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new GetProfileException(errorResponse.error.message);
+                } else {
+                    throw new GetProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
@@ -203,20 +242,22 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(BASE_URI, RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            Type listType = new TypeToken<List<Profile>>() {}.getType();
-            return gson.fromJson(stringResponse, listType);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new GetProfileException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                Type listType = new TypeToken<List<Profile>>() {}.getType();
+                return clientHelper.readJson(gson, response, listType);
             } else {
-                throw new GetProfileException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new GetProfileException(errorResponse.error.message);
+                } else {
+                    throw new GetProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
@@ -233,20 +274,27 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
         HttpDelete request = (HttpDelete) clientHelper.createHttpRequest(BASE_URI + "/" + id.toString(), RequestType.DELETE);
 
         HttpResponse response = defaultHttpClient.execute(request);
-
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode != HttpStatus.SC_OK) {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new DeleteProfileException(errorResponse.error.message);
-            } else {
-                throw new DeleteProfileException(String.valueOf(statusCode));
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
+
+            if (statusCode != HttpStatus.SC_OK) {
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new DeleteProfileException(errorResponse.error.message);
+                } else {
+                    throw new DeleteProfileException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    @Override
+    public BulkResult<UUID, Void> deleteProfiles(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(deleteProfilesAsync(ids, policy, null));
+    }
+
     /**
      * Gets a list of all available phrases for enrollments
      *
@@ -264,20 +312,22 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
         HttpGet request = (HttpGet) clientHelper.createHttpRequest(requestURI, RequestType.GET);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            Type listType = new TypeToken<List<VerificationPhrase>>() {}.getType();
-            return gson.fromJson(stringResponse, listType);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new PhrasesException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                Type listType = new TypeToken<List<VerificationPhrase>>() {}.getType();
+                return clientHelper.readJson(gson, response, listType);
             } else {
-                throw new PhrasesException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new PhrasesException(errorResponse.error.message);
+                } else {
+                    throw new PhrasesException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
@@ -293,33 +343,80 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
     @Override
     public Enrollment enroll(InputStream audioStream, UUID id) throws EnrollmentException, IOException {
 
+        return enroll(audioStream, -1, id);
+    }
+
+    /**
+     * Enrolls a new stream of a known length for a given speaker
+     *
+     * @param audioStream The stream to enroll
+     * @param audioLength The number of bytes in the audio stream, or -1 if unknown
+     * @param id The speaker profile speaker ID
+     * @return Enrollment object encapsulating the enrollment response
+     * @throws EnrollmentException Thrown in case of internal server error, wrong ID or an invalid audio format
+     * @throws IOException Signals an I/O issue while reading the audio stream, a connection abortion, or an invalid response content
+     */
+    private Enrollment enroll(InputStream audioStream, long audioLength, UUID id) throws EnrollmentException, IOException {
+
         String requestUrl = BASE_URI + "/" + id.toString() + "/enroll";
         HttpPost request = (HttpPost) clientHelper.createHttpRequest(requestUrl, RequestType.POST);
 
         String fileName = id.toString() + "_" + new Date();
-        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, "enrollmentData", fileName);
+        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, audioLength, "enrollmentData", fileName);
         request.setEntity(entity);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, Enrollment.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new EnrollmentException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, Enrollment.class);
             } else {
-                throw new EnrollmentException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new EnrollmentException(errorResponse.error.message);
+                } else {
+                    throw new EnrollmentException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    /**
+     * Enrolls a new WAV audio file for a given speaker
+     *
+     * @param audio The .wav audio File to enroll
+     * @param id The speaker profile speaker ID
+     * @return Enrollment object encapsulating the enrollment response
+     * @throws EnrollmentException Thrown in case of internal server error, wrong ID or an invalid audio format
+     * @throws IOException Signals an I/O issue while reading the audio file, a connection abortion, or an invalid response content
+     */
     @Override
     public Enrollment enroll(File audio, UUID id) throws EnrollmentException, IOException {
-        return null;
+
+        InputStream audioStream = new FileInputStream(audio);
+        try {
+            return enroll(audioStream, audio.length(), id);
+        } finally {
+            audioStream.close();
+        }
+    }
+
+    /**
+     * Enrolls a reusable audio payload for a given speaker
+     *
+     * @param audio The enrollment audio payload, which can be submitted again afterwards
+     * @param id The speaker profile speaker ID
+     * @return Enrollment object encapsulating the enrollment response
+     * @throws EnrollmentException Thrown in case of internal server error, wrong ID or an invalid audio format
+     * @throws IOException Signals a connection abortion, or an invalid response content
+     */
+    @Override
+    public Enrollment enroll(AudioPayload audio, UUID id) throws EnrollmentException, IOException {
+
+        return enroll(audio.openStream(), audio.length(), id);
     }
 
     /**
@@ -334,33 +431,80 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
     @Override
     public Verification verify(InputStream audioStream, UUID id) throws VerificationException, IOException {
 
+        return verify(audioStream, -1, id);
+    }
+
+    /**
+     * Verifies a given speaker using an audio stream of a known length
+     *
+     * @param audioStream The stream of audio to be verified
+     * @param audioLength The number of bytes in the audio stream, or -1 if unknown
+     * @param id The speaker ID
+     * @return A verification object encapsulating the verification result
+     * @throws VerificationException Thrown in case of invalid ID, invalid audio format or internal server error
+     * @throws IOException Signals an I/O issue while reading the audio stream, a connection abortion, or an invalid response content
+     */
+    private Verification verify(InputStream audioStream, long audioLength, UUID id) throws VerificationException, IOException {
+
         String requestUrl = VERIFY_ENDPOINT + "?verificationProfileId=" + id.toString();
         HttpPost request = (HttpPost) clientHelper.createHttpRequest(requestUrl, RequestType.POST);
 
         String fileName = id.toString() + "_" + new Date();
-        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, "verificationData", fileName);
+        HttpEntity entity = clientHelper.addStreamToEntity(audioStream, audioLength, "verificationData", fileName);
         request.setEntity(entity);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
-
-        if (statusCode == HttpStatus.SC_OK) {
-            return gson.fromJson(stringResponse, Verification.class);
-        } else {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new VerificationException(errorResponse.error.message);
+            if (statusCode == HttpStatus.SC_OK) {
+                return clientHelper.readJson(gson, response, Verification.class);
             } else {
-                throw new VerificationException(String.valueOf(statusCode));
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new VerificationException(errorResponse.error.message);
+                } else {
+                    throw new VerificationException(String.valueOf(statusCode));
+                }
             }
+        } finally {
+            clientHelper.consume(response);
         }
     }
 
+    /**
+     * Verifies a given speaker using the speaker ID and a WAV-type audio file
+     *
+     * @param audio The .wav audio File to be verified
+     * @param id The speaker ID
+     * @return A verification object encapsulating the verification result
+     * @throws VerificationException Thrown in case of invalid ID, invalid audio format or internal server error
+     * @throws IOException Signals an I/O issue while reading the audio file, a connection abortion, or an invalid response content
+     */
     @Override
     public Verification verify(File audio, UUID id) throws VerificationException, IOException {
-        return null;
+
+        InputStream audioStream = new FileInputStream(audio);
+        try {
+            return verify(audioStream, audio.length(), id);
+        } finally {
+            audioStream.close();
+        }
+    }
+
+    /**
+     * Verifies a given speaker using the speaker ID and a reusable audio payload
+     *
+     * @param audio The audio payload to be verified, which can be submitted again afterwards
+     * @param id The speaker ID
+     * @return A verification object encapsulating the verification result
+     * @throws VerificationException Thrown in case of invalid ID, invalid audio format or internal server error
+     * @throws IOException Signals a connection abortion, or an invalid response content
+     */
+    @Override
+    public Verification verify(AudioPayload audio, UUID id) throws VerificationException, IOException {
+
+        return verify(audio.openStream(), audio.length(), id);
     }
 
     /**
@@ -377,17 +521,180 @@ public class SpeakerVerificationRestClient implements SpeakerVerificationClient
         HttpPost request = (HttpPost) clientHelper.createHttpRequest(requestUrl, RequestType.POST);
 
         HttpResponse response = defaultHttpClient.execute(request);
+        try {
+            int statusCode = clientHelper.getStatusCode(response);
+
+            if (statusCode != HttpStatus.SC_OK) {
+                ErrorResponse errorResponse = clientHelper.readJson(gson, response, ErrorResponse.class);
+                if (errorResponse != null) {
+                    throw new ResetEnrollmentsException(errorResponse.error.message);
+                } else {
+                    throw new ResetEnrollmentsException(String.valueOf(statusCode));
+                }
+            }
+        } finally {
+            clientHelper.consume(response);
+        }
+    }
 
-        int statusCode = clientHelper.getStatusCode(response);
-        String stringResponse = clientHelper.httpResponseToString(response);
+    @Override
+    public BulkResult<UUID, Void> resetEnrollments(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(resetEnrollmentsAsync(ids, policy, null));
+    }
 
-        if (statusCode != HttpStatus.SC_OK) {
-            ErrorResponse errorResponse = gson.fromJson(stringResponse, ErrorResponse.class);
-            if (errorResponse != null) {
-                throw new ResetEnrollmentsException(errorResponse.error.message);
-            } else {
-                throw new ResetEnrollmentsException(String.valueOf(statusCode));
+    //----------------------------------------------------------------------------------------------
+
+    @Override
+    public ServiceFuture<CreateProfileResponse> createProfileAsync(final String locale, ServiceCallback<? super CreateProfileResponse> callback) {
+        return ServiceFuture.submit(executor, new Callable<CreateProfileResponse>() {
+            @Override
+            public CreateProfileResponse call() throws Exception {
+                return createProfile(locale);
             }
-        }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<Integer, CreateProfileResponse>> createProfilesAsync(int count, final String locale, BulkPolicy policy, ServiceCallback<? super BulkResult<Integer, CreateProfileResponse>> callback) {
+        return BulkExecutor.run(BulkExecutor.indices(count), policy, new BulkExecutor.ItemCall<Integer, CreateProfileResponse>() {
+            @Override
+            public ServiceFuture<CreateProfileResponse> start(Integer index) {
+                return createProfileAsync(locale, null);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Profile> getProfileAsync(final UUID id, ServiceCallback<? super Profile> callback) {
+        return ServiceFuture.submit(executor, new Callable<Profile>() {
+            @Override
+            public Profile call() throws Exception {
+                return getProfile(id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<List<Profile>> getProfilesAsync(ServiceCallback<? super List<Profile>> callback) {
+        return ServiceFuture.submit(executor, new Callable<List<Profile>>() {
+            @Override
+            public List<Profile> call() throws Exception {
+                return getProfiles();
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Void> deleteProfileAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return ServiceFuture.submit(executor, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                deleteProfile(id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> deleteProfilesAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return deleteProfileAsync(id, null);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<List<VerificationPhrase>> getPhrasesAsync(final String locale, ServiceCallback<? super List<VerificationPhrase>> callback) {
+        return ServiceFuture.submit(executor, new Callable<List<VerificationPhrase>>() {
+            @Override
+            public List<VerificationPhrase> call() throws Exception {
+                return getPhrases(locale);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Enrollment> enrollAsync(final File audio, final UUID id, ServiceCallback<? super Enrollment> callback) {
+        return ServiceFuture.submit(executor, new Callable<Enrollment>() {
+            @Override
+            public Enrollment call() throws Exception {
+                return enroll(audio, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Enrollment> enrollAsync(final AudioPayload audio, final UUID id, ServiceCallback<? super Enrollment> callback) {
+        return ServiceFuture.submit(executor, new Callable<Enrollment>() {
+            @Override
+            public Enrollment call() throws Exception {
+                return enroll(audio, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Enrollment> enrollAsync(AudioCapture audio, final UUID id, ServiceCallback<? super Enrollment> callback) {
+        final InputStream audioStream = audio.openStream();
+        return audio.uploadedBy(ServiceFuture.submit(executor, new Callable<Enrollment>() {
+            @Override
+            public Enrollment call() throws Exception {
+                return enroll(audioStream, id);
+            }
+        }, callback));
+    }
+
+    @Override
+    public ServiceFuture<Verification> verifyAsync(final File audio, final UUID id, ServiceCallback<? super Verification> callback) {
+        return ServiceFuture.submit(executor, new Callable<Verification>() {
+            @Override
+            public Verification call() throws Exception {
+                return verify(audio, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Verification> verifyAsync(final AudioPayload audio, final UUID id, ServiceCallback<? super Verification> callback) {
+        return ServiceFuture.submit(executor, new Callable<Verification>() {
+            @Override
+            public Verification call() throws Exception {
+                return verify(audio, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Verification> verifyAsync(AudioCapture audio, final UUID id, ServiceCallback<? super Verification> callback) {
+        final InputStream audioStream = audio.openStream();
+        return audio.uploadedBy(ServiceFuture.submit(executor, new Callable<Verification>() {
+            @Override
+            public Verification call() throws Exception {
+                return verify(audioStream, id);
+            }
+        }, callback));
+    }
+
+    @Override
+    public ServiceFuture<Void> resetEnrollmentsAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return ServiceFuture.submit(executor, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                resetEnrollments(id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> resetEnrollmentsAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return resetEnrollmentsAsync(id, null);
+            }
+        }, callback);
     }
-}
\ No newline at end of file
+}
@@ -21,34 +21,92 @@ import com.squareup.moshi.Moshi;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
-import okhttp3.MediaType;
 import okhttp3.RequestBody;
+import retrofit2.Call;
 import retrofit2.Response;
 
 class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
+    /**
+     * Extracts the ID of the profiles cached by the client
+     */
+    static final ProfileCache.ProfileIds<Profile> PROFILE_IDS = new ProfileCache.ProfileIds<Profile>() {
+        @Override
+        public UUID idOf(Profile profile) {
+            return profile.verificationProfileId;
+        }
+    };
+
     private final VerificationProfileApi verificationProfileApi;
     private final VerificationPhraseApi verificationPhraseApi;
     private final SpeakerRecognitionApi speakerRecognitionApi;
+    private final AudioUploads audioUploads;
+    private final ProfileCache<Profile> profileCache;
+    private final PhraseCache phraseCache;
+    private final ResultMemo<Verification> verificationMemo;
+    private final PhraseCache.PhraseFetch phraseFetch = new PhraseCache.PhraseFetch() {
+        @Override
+        public ServiceFuture<List<VerificationPhrase>> fetch(String locale, ServiceCallback<List<VerificationPhrase>> callback) {
+            return fetchPhrases(locale, callback);
+        }
+    };
     private Moshi moshi;
 
     protected SpeakerVerificationRetrofitClient(VerificationProfileApi verificationProfileApi,
                                                 VerificationPhraseApi verificationPhraseApi,
                                                 SpeakerRecognitionApi speakerRecognitionApi,
+                                                AudioUploads audioUploads,
+                                                ProfileCache<Profile> profileCache,
+                                                PhraseCache phraseCache,
+                                                ResultMemo<Verification> verificationMemo,
                                                 Moshi moshi) {
         this.verificationProfileApi = verificationProfileApi;
         this.verificationPhraseApi = verificationPhraseApi;
         this.speakerRecognitionApi = speakerRecognitionApi;
+        this.audioUploads = audioUploads;
+        this.profileCache = profileCache;
+        this.phraseCache = phraseCache;
+        this.verificationMemo = verificationMemo;
         this.moshi = moshi;
     }
 
     @Override
     public CreateProfileResponse createProfile(String locale) throws CreateProfileException, IOException {
-        Response<CreateProfileResponse> response = verificationProfileApi.createProfile(new ProfileLocale(locale)).execute();
+        return handleCreateProfile(verificationProfileApi.createProfile(new ProfileLocale(locale)).execute());
+    }
+
+    @Override
+    public ServiceFuture<CreateProfileResponse> createProfileAsync(String locale, ServiceCallback<? super CreateProfileResponse> callback) {
+        return RetrofitCalls.enqueue(verificationProfileApi.createProfile(new ProfileLocale(locale)), new RetrofitCalls.ResponseHandler<CreateProfileResponse, CreateProfileResponse>() {
+            @Override
+            public CreateProfileResponse handle(Response<CreateProfileResponse> response) throws Exception {
+                return handleCreateProfile(response);
+            }
+        }, callback);
+    }
+
+    @Override
+    public BulkResult<Integer, CreateProfileResponse> createProfiles(int count, String locale, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(createProfilesAsync(count, locale, policy, null));
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<Integer, CreateProfileResponse>> createProfilesAsync(int count, final String locale, BulkPolicy policy, ServiceCallback<? super BulkResult<Integer, CreateProfileResponse>> callback) {
+        return BulkExecutor.run(BulkExecutor.indices(count), policy, new BulkExecutor.ItemCall<Integer, CreateProfileResponse>() {
+            @Override
+            public ServiceFuture<CreateProfileResponse> start(Integer index) {
+                return createProfileAsync(locale, null);
+            }
+        }, callback);
+    }
 
+    private CreateProfileResponse handleCreateProfile(Response<CreateProfileResponse> response) throws CreateProfileException, IOException {
+        profileCache.invalidateList();
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -63,8 +121,34 @@ class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
     @Override
     public Profile getProfile(UUID id) throws GetProfileException, IOException {
-        Response<Profile> response = verificationProfileApi.getProfile(id.toString()).execute();
+        Profile cached = profileCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long version = profileCache.version();
+        Profile profile = handleGetProfile(verificationProfileApi.getProfile(id.toString()).execute());
+        profileCache.put(profile, version);
+        return profile;
+    }
+
+    @Override
+    public ServiceFuture<Profile> getProfileAsync(UUID id, ServiceCallback<? super Profile> callback) {
+        Profile cached = profileCache.get(id);
+        if (cached != null) {
+            return ServiceFuture.completed(cached, callback);
+        }
+        final long version = profileCache.version();
+        return RetrofitCalls.enqueue(verificationProfileApi.getProfile(id.toString()), new RetrofitCalls.ResponseHandler<Profile, Profile>() {
+            @Override
+            public Profile handle(Response<Profile> response) throws Exception {
+                Profile profile = handleGetProfile(response);
+                profileCache.put(profile, version);
+                return profile;
+            }
+        }, callback);
+    }
 
+    private <T> T handleGetProfile(Response<T> response) throws GetProfileException, IOException {
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -79,24 +163,67 @@ class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
     @Override
     public List<Profile> getProfiles() throws GetProfileException, IOException {
-        Response<List<Profile>> response = verificationProfileApi.getProfiles().execute();
+        List<Profile> cached = profileCache.getAll();
+        if (cached != null) {
+            return cached;
+        }
+        long version = profileCache.version();
+        List<Profile> profiles = handleGetProfile(verificationProfileApi.getProfiles().execute());
+        profileCache.putAll(profiles, version);
+        return profiles;
+    }
 
-        if (response.isSuccessful()) {
-            return response.body();
-        } else {
-            ErrorResponse errorResponse = moshi.adapter(ErrorResponse.class).fromJson(response.errorBody().source());
-            if (errorResponse != null) {
-                throw new GetProfileException(errorResponse.error.message);
-            } else {
-                throw new GetProfileException(String.valueOf(response.code()));
-            }
+    @Override
+    public ServiceFuture<List<Profile>> getProfilesAsync(ServiceCallback<? super List<Profile>> callback) {
+        List<Profile> cached = profileCache.getAll();
+        if (cached != null) {
+            return ServiceFuture.completed(cached, callback);
         }
+        final long version = profileCache.version();
+        return RetrofitCalls.enqueue(verificationProfileApi.getProfiles(), new RetrofitCalls.ResponseHandler<List<Profile>, List<Profile>>() {
+            @Override
+            public List<Profile> handle(Response<List<Profile>> response) throws Exception {
+                List<Profile> profiles = handleGetProfile(response);
+                profileCache.putAll(profiles, version);
+                return profiles;
+            }
+        }, callback);
     }
 
     @Override
     public void deleteProfile(UUID id) throws DeleteProfileException, IOException {
-        Response<Void> response = verificationProfileApi.deleteProfile(id.toString()).execute();
+        handleDeleteProfile(verificationProfileApi.deleteProfile(id.toString()).execute(), id);
+    }
+
+    @Override
+    public ServiceFuture<Void> deleteProfileAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return RetrofitCalls.enqueue(verificationProfileApi.deleteProfile(id.toString()), new RetrofitCalls.ResponseHandler<Void, Void>() {
+            @Override
+            public Void handle(Response<Void> response) throws Exception {
+                handleDeleteProfile(response, id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public BulkResult<UUID, Void> deleteProfiles(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(deleteProfilesAsync(ids, policy, null));
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> deleteProfilesAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return deleteProfileAsync(id, null);
+            }
+        }, callback);
+    }
 
+    private void handleDeleteProfile(Response<Void> response, UUID id) throws DeleteProfileException, IOException {
+        profileCache.invalidate(id);
+        verificationMemo.invalidate(id);
         if (!response.isSuccessful()) {
             ErrorResponse errorResponse = moshi.adapter(ErrorResponse.class).fromJson(response.errorBody().source());
             if (errorResponse != null) {
@@ -109,8 +236,36 @@ class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
     @Override
     public List<VerificationPhrase> getPhrases(String locale) throws PhrasesException, IOException {
-        Response<List<VerificationPhrase>> response = verificationPhraseApi.getPhrases(locale).execute();
+        List<VerificationPhrase> cached = phraseCache.get(locale, phraseFetch);
+        if (cached != null) {
+            return cached;
+        }
+        List<VerificationPhrase> phrases = handleGetPhrases(verificationPhraseApi.getPhrases(locale).execute());
+        phraseCache.put(locale, phrases);
+        return phrases;
+    }
+
+    @Override
+    public ServiceFuture<List<VerificationPhrase>> getPhrasesAsync(String locale, ServiceCallback<? super List<VerificationPhrase>> callback) {
+        List<VerificationPhrase> cached = phraseCache.get(locale, phraseFetch);
+        if (cached != null) {
+            return ServiceFuture.completed(cached, callback);
+        }
+        return fetchPhrases(locale, callback);
+    }
 
+    private ServiceFuture<List<VerificationPhrase>> fetchPhrases(final String locale, ServiceCallback<? super List<VerificationPhrase>> callback) {
+        return RetrofitCalls.enqueue(verificationPhraseApi.getPhrases(locale), new RetrofitCalls.ResponseHandler<List<VerificationPhrase>, List<VerificationPhrase>>() {
+            @Override
+            public List<VerificationPhrase> handle(Response<List<VerificationPhrase>> response) throws Exception {
+                List<VerificationPhrase> phrases = handleGetPhrases(response);
+                phraseCache.put(locale, phrases);
+                return phrases;
+            }
+        }, callback);
+    }
+
+    private List<VerificationPhrase> handleGetPhrases(Response<List<VerificationPhrase>> response) throws PhrasesException, IOException {
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -125,18 +280,80 @@ class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
     @Override
     public Enrollment enroll(InputStream audioStream, UUID id) throws EnrollmentException, IOException {
-        return null;
+        RequestBody requestBody = audioUploads.fromStream(audioStream);
+
+        return handleEnroll(verificationProfileApi.enroll(requestBody, id.toString()).execute(), id);
     }
 
     @Override
     public Enrollment enroll(File audio, UUID id) throws EnrollmentException, IOException {
-        MediaType mediaType = MediaType.parse("multipart/form-data");
-        RequestBody requestBody = RequestBody.create(mediaType, audio);
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new EnrollmentException(problem);
+        }
+        return handleEnroll(enrollCall(audioUploads.fromFile(audio), id).execute(), id);
+    }
 
-        Response<Enrollment> response = verificationProfileApi
-                .enroll(requestBody, id.toString())
-                .execute();
+    @Override
+    public ServiceFuture<Enrollment> enrollAsync(File audio, final UUID id, ServiceCallback<? super Enrollment> callback) {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new EnrollmentException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(enrollCall(audioUploads.fromFile(audio), id), new RetrofitCalls.ResponseHandler<Enrollment, Enrollment>() {
+            @Override
+            public Enrollment handle(Response<Enrollment> response) throws Exception {
+                return handleEnroll(response, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public Enrollment enroll(AudioPayload audio, UUID id) throws EnrollmentException, IOException {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new EnrollmentException(problem);
+        }
+        return handleEnroll(enrollCall(audioUploads.fromPayload(audio), id).execute(), id);
+    }
+
+    @Override
+    public ServiceFuture<Enrollment> enrollAsync(AudioPayload audio, final UUID id, ServiceCallback<? super Enrollment> callback) {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new EnrollmentException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(enrollCall(audioUploads.fromPayload(audio), id), new RetrofitCalls.ResponseHandler<Enrollment, Enrollment>() {
+            @Override
+            public Enrollment handle(Response<Enrollment> response) throws Exception {
+                return handleEnroll(response, id);
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Enrollment> enrollAsync(AudioCapture audio, final UUID id, ServiceCallback<? super Enrollment> callback) {
+        RequestBody requestBody;
+        try {
+            requestBody = audioUploads.fromCapture(audio);
+        } catch (IOException e) {
+            return ServiceFuture.failed(e, callback);
+        }
+        return audio.uploadedBy(RetrofitCalls.enqueue(enrollCall(requestBody, id), new RetrofitCalls.ResponseHandler<Enrollment, Enrollment>() {
+            @Override
+            public Enrollment handle(Response<Enrollment> response) throws Exception {
+                return handleEnroll(response, id);
+            }
+        }, callback));
+    }
+
+    private Call<Enrollment> enrollCall(RequestBody requestBody, UUID id) {
+        return verificationProfileApi.enroll(requestBody, id.toString());
+    }
 
+    private Enrollment handleEnroll(Response<Enrollment> response, UUID id) throws EnrollmentException, IOException {
+        profileCache.invalidate(id);
+        verificationMemo.invalidate(id);
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -151,18 +368,104 @@ class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
     @Override
     public Verification verify(InputStream audioStream, UUID id) throws VerificationException, IOException {
-        return null;
+        RequestBody requestBody = audioUploads.fromStream(audioStream);
+
+        return handleVerify(speakerRecognitionApi.verify(requestBody, id.toString()).execute());
     }
 
     @Override
     public Verification verify(File audio, UUID id) throws VerificationException, IOException {
-        MediaType mediaType = MediaType.parse("multipart/form-data");
-        RequestBody requestBody = RequestBody.create(mediaType, audio);
+        if (verificationMemo.isEnabled()) {
+            return verify(AudioPayload.map(audio), id);
+        }
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new VerificationException(problem);
+        }
+        return handleVerify(verifyCall(audioUploads.fromFile(audio), id).execute());
+    }
 
-        Response<Verification> response = speakerRecognitionApi
-                .verify(requestBody, id.toString())
-                .execute();
+    @Override
+    public ServiceFuture<Verification> verifyAsync(File audio, UUID id, ServiceCallback<? super Verification> callback) {
+        if (verificationMemo.isEnabled()) {
+            try {
+                return verifyAsync(AudioPayload.map(audio), id, callback);
+            } catch (IOException e) {
+                return ServiceFuture.failed(e, callback);
+            }
+        }
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new VerificationException(problem), callback);
+        }
+        return RetrofitCalls.enqueue(verifyCall(audioUploads.fromFile(audio), id), new RetrofitCalls.ResponseHandler<Verification, Verification>() {
+            @Override
+            public Verification handle(Response<Verification> response) throws Exception {
+                return handleVerify(response);
+            }
+        }, callback);
+    }
 
+    @Override
+    public Verification verify(AudioPayload audio, UUID id) throws VerificationException, IOException {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            throw new VerificationException(problem);
+        }
+        String key = verificationMemo.key(audio, Collections.singletonList(id), "");
+        Verification memoized = verificationMemo.get(key);
+        if (memoized != null) {
+            return memoized;
+        }
+        long version = verificationMemo.version();
+        Verification verification = handleVerify(verifyCall(audioUploads.fromPayload(audio), id).execute());
+        verificationMemo.put(key, Collections.singletonList(id), verification, version);
+        return verification;
+    }
+
+    @Override
+    public ServiceFuture<Verification> verifyAsync(AudioPayload audio, final UUID id, ServiceCallback<? super Verification> callback) {
+        String problem = audioUploads.check(audio);
+        if (problem != null) {
+            return ServiceFuture.failed(new VerificationException(problem), callback);
+        }
+        final String key = verificationMemo.key(audio, Collections.singletonList(id), "");
+        Verification memoized = verificationMemo.get(key);
+        if (memoized != null) {
+            return ServiceFuture.completed(memoized, callback);
+        }
+        final long version = verificationMemo.version();
+        return RetrofitCalls.enqueue(verifyCall(audioUploads.fromPayload(audio), id), new RetrofitCalls.ResponseHandler<Verification, Verification>() {
+            @Override
+            public Verification handle(Response<Verification> response) throws Exception {
+                Verification verification = handleVerify(response);
+                verificationMemo.put(key, Collections.singletonList(id), verification, version);
+                return verification;
+            }
+        }, callback);
+    }
+
+    @Override
+    public ServiceFuture<Verification> verifyAsync(AudioCapture audio, UUID id, ServiceCallback<? super Verification> callback) {
+        RequestBody requestBody;
+        try {
+            requestBody = audioUploads.fromCapture(audio);
+        } catch (IOException e) {
+            return ServiceFuture.failed(e, callback);
+        }
+        return audio.uploadedBy(RetrofitCalls.enqueue(verifyCall(requestBody, id), new RetrofitCalls.ResponseHandler<Verification, Verification>() {
+            @Override
+            public Verification handle(Response<Verification> response) throws Exception {
+                return handleVerify(response);
+            }
+        }, callback));
+    }
+
+    private Call<Verification> verifyCall(RequestBody requestBody, UUID id) {
+        return speakerRecognitionApi.verify(requestBody, id.toString());
+    }
+
+    private Verification handleVerify(Response<Verification> response) throws VerificationException, IOException {
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -177,8 +480,38 @@ class SpeakerVerificationRetrofitClient implements SpeakerVerificationClient {
 
     @Override
     public void resetEnrollments(UUID id) throws ResetEnrollmentsException, IOException {
-        Response<Void> response = verificationProfileApi.resetEnrollments(id.toString()).execute();
+        handleResetEnrollments(verificationProfileApi.resetEnrollments(id.toString()).execute(), id);
+    }
+
+    @Override
+    public ServiceFuture<Void> resetEnrollmentsAsync(final UUID id, ServiceCallback<? super Void> callback) {
+        return RetrofitCalls.enqueue(verificationProfileApi.resetEnrollments(id.toString()), new RetrofitCalls.ResponseHandler<Void, Void>() {
+            @Override
+            public Void handle(Response<Void> response) throws Exception {
+                handleResetEnrollments(response, id);
+                return null;
+            }
+        }, callback);
+    }
+
+    @Override
+    public BulkResult<UUID, Void> resetEnrollments(Collection<UUID> ids, BulkPolicy policy) throws InterruptedException {
+        return BulkExecutor.await(resetEnrollmentsAsync(ids, policy, null));
+    }
+
+    @Override
+    public ServiceFuture<BulkResult<UUID, Void>> resetEnrollmentsAsync(Collection<UUID> ids, BulkPolicy policy, ServiceCallback<? super BulkResult<UUID, Void>> callback) {
+        return BulkExecutor.run(ids, policy, new BulkExecutor.ItemCall<UUID, Void>() {
+            @Override
+            public ServiceFuture<Void> start(UUID id) {
+                return resetEnrollmentsAsync(id, null);
+            }
+        }, callback);
+    }
 
+    private void handleResetEnrollments(Response<Void> response, UUID id) throws ResetEnrollmentsException, IOException {
+        profileCache.invalidate(id);
+        verificationMemo.invalidate(id);
         if (!response.isSuccessful()) {
             ErrorResponse errorResponse = moshi.adapter(ErrorResponse.class).fromJson(response.errorBody().source());
             if (errorResponse != null) {
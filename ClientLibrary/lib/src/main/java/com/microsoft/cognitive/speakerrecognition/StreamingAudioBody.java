@@ -0,0 +1,75 @@
+package com.microsoft.cognitive.speakerrecognition;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+/**
+ * A multipart body part copying audio straight from its source stream to the connection.
+ * <p>
+ * Unlike a byte array body, the audio is never held on the heap: the only memory used per upload is a
+ * copy buffer that is allocated once per thread and reused for every subsequent upload.
+ * The source stream can only be written once, so the resulting entity is not repeatable.
+ */
+class StreamingAudioBody extends AbstractContentBody {
+
+    /**
+     * Size of the copy buffer, large enough to fill several TCP segments per write
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+
+    private final InputStream in;
+    private final long contentLength;
+    private final String filename;
+
+    /**
+     * Creates a body part for an audio stream
+     *
+     * @param in            The audio stream, which is read to its end but not closed
+     * @param contentLength The number of bytes in the stream, or -1 if unknown in which case the request is sent chunked
+     * @param contentType   The content type of the part
+     * @param filename      The file name of the part
+     */
+    StreamingAudioBody(InputStream in, long contentLength, ContentType contentType, String filename) {
+        super(contentType);
+        this.in = in;
+        this.contentLength = contentLength;
+        this.filename = filename;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] buffer = BUFFER.get();
+        int bytesRead;
+        while ((bytesRead = in.read(buffer)) != -1) {
+            out.write(buffer, 0, bytesRead);
+        }
+        out.flush();
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return MIME.ENC_BINARY;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+}
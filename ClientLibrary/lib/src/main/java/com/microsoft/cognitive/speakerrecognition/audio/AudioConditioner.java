@@ -0,0 +1,112 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Converts WAV audio on the fly to the format accepted by the speaker recognition service:
+ * 16 kHz, mono, 16 bit integer PCM.
+ * <p>
+ * Multi-channel audio is down-mixed by averaging the channels, other sample rates are converted with a
+ * band-limited resampler and 8, 24 and 32 bit integer or 32 and 64 bit float samples are converted to 16 bit.
+ * Conditioning 44.1 or 48 kHz stereo recordings shrinks the upload up to six fold.
+ */
+public final class AudioConditioner {
+
+    /**
+     * The sample rate accepted by the service
+     */
+    public static final int SAMPLE_RATE = 16000;
+
+    /**
+     * The channel count accepted by the service
+     */
+    public static final int CHANNELS = 1;
+
+    /**
+     * The sample size accepted by the service
+     */
+    public static final int BITS_PER_SAMPLE = 16;
+
+    private AudioConditioner() {
+    }
+
+    /**
+     * Checks whether audio of the given format can be uploaded as is
+     *
+     * @param header The audio header
+     * @return true if the audio is 16 kHz mono 16 bit PCM
+     */
+    public static boolean isServiceFormat(WavHeader header) {
+        return header.isPcm(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE);
+    }
+
+    /**
+     * Checks whether audio of the given format can be converted to the service format
+     *
+     * @param header The audio header
+     * @return true if the samples are integer PCM of 8 to 32 bits or 32/64 bit floats, of any rate and channel count
+     */
+    public static boolean isConvertible(WavHeader header) {
+        return ConditioningInputStream.isDecodable(header);
+    }
+
+    /**
+     * Wraps a WAV stream in a stream returning the audio as 16 kHz mono 16 bit PCM WAV.
+     * The header of the source is read immediately, the audio is converted while the returned stream is read.
+     * Closing the returned stream closes the source.
+     *
+     * @param wavStream The source WAV stream
+     * @return The conditioned WAV stream
+     * @throws UnsupportedAudioFormatException Signals the source isn't a WAV stream or its samples can't be decoded
+     * @throws IOException                     Signals a failure while reading the source header
+     */
+    public static ConditionedAudio condition(InputStream wavStream) throws IOException {
+        WavHeader header = WavHeader.read(wavStream);
+        return new ConditionedAudio(new ConditioningInputStream(wavStream, header, SAMPLE_RATE), header);
+    }
+
+    /**
+     * A conditioned WAV stream together with the format of its source
+     */
+    public static final class ConditionedAudio extends InputStream {
+
+        private final ConditioningInputStream stream;
+        private final WavHeader sourceHeader;
+
+        private ConditionedAudio(ConditioningInputStream stream, WavHeader sourceHeader) {
+            this.stream = stream;
+            this.sourceHeader = sourceHeader;
+        }
+
+        /**
+         * @return The header of the source stream
+         */
+        public WavHeader getSourceHeader() {
+            return sourceHeader;
+        }
+
+        /**
+         * @return The number of bytes of the conditioned WAV stream including its header, or -1 if the source
+         * doesn't declare its length
+         */
+        public long length() {
+            return stream.length();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return stream.read();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            return stream.read(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream converting WAV audio to 16 bit integer PCM of a given rate and channel count while it is read.
+ * <p>
+ * Frames are decoded and down-mixed to mono in fixed size blocks, resampled if needed and re-encoded,
+ * so memory use doesn't depend on the length of the audio. If the source declares its length the output
+ * has exactly the length announced in its header, a truncated source being padded with silence.
+ */
+class ConditioningInputStream extends InputStream {
+
+    /**
+     * Number of frames decoded per block
+     */
+    private static final int BLOCK_FRAMES = 2048;
+
+    private final InputStream source;
+    private final WavHeader sourceHeader;
+    private final int sourceFrameSize;
+    private final int sourceSampleSize;
+    private final Resampler resampler;
+
+    private final byte[] header;
+    private int headerPosition;
+
+    private final byte[] raw;
+    private int rawLength;
+    private long sourceRemaining;
+    private boolean sourceDone;
+
+    private final byte[] single = new byte[1];
+    private final float[] mono = new float[BLOCK_FRAMES];
+    private final float[] resampled;
+    private final byte[] output;
+    private int outputPosition;
+    private int outputLength;
+    private final long outputDataLength;
+    private long outputRemaining;
+    private boolean done;
+
+    /**
+     * @param source       The WAV stream, positioned at its first audio byte
+     * @param sourceHeader The header read from the stream
+     * @param targetRate   The output sample rate in Hz
+     * @throws UnsupportedAudioFormatException Signals the source sample format can't be decoded
+     */
+    ConditioningInputStream(InputStream source, WavHeader sourceHeader, int targetRate) throws UnsupportedAudioFormatException {
+        this.source = source;
+        this.sourceHeader = sourceHeader;
+        this.sourceSampleSize = (sourceHeader.getBitsPerSample() + 7) / 8;
+        this.sourceFrameSize = sourceHeader.getBlockAlign();
+        checkDecodable(sourceHeader);
+
+        this.resampler = sourceHeader.getSampleRate() == targetRate ? null : new Resampler(sourceHeader.getSampleRate(), targetRate);
+        long frames = sourceHeader.getFrameCount();
+        long outputFrames = frames < 0 ? -1 : resampler == null ? frames : Resampler.outputLength(frames, sourceHeader.getSampleRate(), targetRate);
+        this.outputDataLength = outputFrames < 0 ? -1 : outputFrames * 2;
+        this.outputRemaining = outputDataLength;
+        this.header = WavHeader.pcm(targetRate, 1, 16, outputDataLength).toByteArray();
+
+        this.sourceRemaining = sourceHeader.getDataLength();
+        this.raw = new byte[BLOCK_FRAMES * sourceFrameSize];
+        int maxOutput = resampler == null
+                ? BLOCK_FRAMES
+                : (int) Resampler.outputLength(BLOCK_FRAMES, sourceHeader.getSampleRate(), targetRate) + 1;
+        this.resampled = new float[maxOutput];
+        this.output = new byte[maxOutput * 2];
+    }
+
+    /**
+     * @return The number of bytes of the converted WAV stream including its header, or -1 if the source length is unknown
+     */
+    long length() {
+        return outputDataLength < 0 ? -1 : header.length + outputDataLength;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (headerPosition < header.length) {
+            int count = Math.min(length, header.length - headerPosition);
+            System.arraycopy(header, headerPosition, bytes, offset, count);
+            headerPosition += count;
+            return count;
+        }
+        while (outputPosition == outputLength) {
+            if (done) {
+                return -1;
+            }
+            fill();
+        }
+        int count = Math.min(length, outputLength - outputPosition);
+        System.arraycopy(output, outputPosition, bytes, offset, count);
+        outputPosition += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private void fill() throws IOException {
+        outputPosition = 0;
+        outputLength = 0;
+
+        int frames = readFrames();
+        int samples;
+        if (resampler == null) {
+            System.arraycopy(mono, 0, resampled, 0, frames);
+            samples = frames;
+        } else {
+            resampler.write(mono, 0, frames);
+            samples = resampler.read(resampled, 0, resampled.length, sourceDone);
+        }
+        // The resampler only flushes once told the source is done, which may take an extra call
+        boolean flushed = sourceDone && (resampler == null || samples < resampled.length);
+
+        int bytes = samples * 2;
+        if (outputRemaining >= 0) {
+            bytes = (int) Math.min(bytes, outputRemaining);
+        }
+        for (int i = 0, j = 0; j < bytes; i++, j += 2) {
+            int value = (int) Math.floor(resampled[i] * 32768 + 0.5);
+            value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+            output[j] = (byte) value;
+            output[j + 1] = (byte) (value >> 8);
+        }
+        outputLength = bytes;
+
+        if (flushed && outputRemaining >= 0 && outputRemaining > outputLength) {
+            // Pad a truncated source with silence up to the length announced in the header
+            int padding = (int) Math.min(output.length - outputLength, outputRemaining - outputLength);
+            for (int i = 0; i < padding; i++) {
+                output[outputLength + i] = 0;
+            }
+            outputLength += padding;
+            flushed = outputRemaining == outputLength;
+        }
+        if (outputRemaining >= 0) {
+            outputRemaining -= outputLength;
+        }
+        done = flushed || outputRemaining == 0;
+    }
+
+    private int readFrames() throws IOException {
+        while (!sourceDone && rawLength < raw.length) {
+            int wanted = raw.length - rawLength;
+            if (sourceRemaining >= 0) {
+                wanted = (int) Math.min(wanted, sourceRemaining);
+            }
+            int read = wanted == 0 ? -1 : source.read(raw, rawLength, wanted);
+            if (read == -1) {
+                sourceDone = true;
+            } else {
+                rawLength += read;
+                if (sourceRemaining >= 0) {
+                    sourceRemaining -= read;
+                }
+            }
+        }
+
+        int frames = rawLength / sourceFrameSize;
+        for (int frame = 0; frame < frames; frame++) {
+            int position = frame * sourceFrameSize;
+            float sum = 0;
+            for (int channel = 0; channel < sourceHeader.getChannels(); channel++) {
+                sum += decode(position + channel * sourceSampleSize);
+            }
+            mono[frame] = sum / sourceHeader.getChannels();
+        }
+        int consumed = frames * sourceFrameSize;
+        // A trailing partial frame is carried over, or dropped once the source is exhausted
+        rawLength = sourceDone ? 0 : rawLength - consumed;
+        System.arraycopy(raw, consumed, raw, 0, rawLength);
+        return frames;
+    }
+
+    private float decode(int offset) {
+        if (sourceHeader.getAudioFormat() == WavHeader.FORMAT_IEEE_FLOAT) {
+            if (sourceSampleSize == 4) {
+                return Float.intBitsToFloat(readLittleEndian(offset, 4));
+            }
+            long bits = (readLittleEndian(offset, 4) & 0xFFFFFFFFL) | (long) readLittleEndian(offset + 4, 4) << 32;
+            return (float) Double.longBitsToDouble(bits);
+        }
+        switch (sourceSampleSize) {
+            case 1:
+                return ((raw[offset] & 0xFF) - 128) / 128f;
+            case 2:
+                return (short) readLittleEndian(offset, 2) / 32768f;
+            case 3:
+                return (readLittleEndian(offset, 3) << 8 >> 8) / 8388608f;
+            default:
+                return readLittleEndian(offset, 4) / 2147483648f;
+        }
+    }
+
+    private int readLittleEndian(int offset, int size) {
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            value |= (raw[offset + i] & 0xFF) << (8 * i);
+        }
+        return value;
+    }
+
+    /**
+     * @param header The source header
+     * @return true if the samples of the source can be decoded
+     */
+    static boolean isDecodable(WavHeader header) {
+        boolean supported;
+        if (header.getAudioFormat() == WavHeader.FORMAT_PCM) {
+            supported = header.getBitsPerSample() >= 8 && header.getBitsPerSample() <= 32 && header.getBitsPerSample() % 8 == 0;
+        } else if (header.getAudioFormat() == WavHeader.FORMAT_IEEE_FLOAT) {
+            supported = header.getBitsPerSample() == 32 || header.getBitsPerSample() == 64;
+        } else {
+            supported = false;
+        }
+        return supported && header.getChannels() >= 1 && header.getSampleRate() > 0;
+    }
+
+    private static void checkDecodable(WavHeader header) throws UnsupportedAudioFormatException {
+        if (!isDecodable(header)) {
+            throw new UnsupportedAudioFormatException("Unsupported WAV format: " + header);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+/**
+ * A streaming band-limited sample rate converter.
+ * <p>
+ * Every output sample is the convolution of the input with a Blackman windowed sinc low-pass filter centered
+ * on the output sample's position in the input, so any pair of rates is supported. When down-sampling the
+ * cutoff is lowered to just below the output Nyquist frequency to suppress aliasing. Output positions are
+ * tracked as exact fractions of the input rate, so long streams don't drift.
+ */
+final class Resampler {
+
+    /**
+     * Number of filter zero crossings on each side of the center, trading filter steepness for CPU
+     */
+    private static final int ZERO_CROSSINGS = 16;
+
+    /**
+     * Filter table entries per zero crossing, coefficients in between are linearly interpolated
+     */
+    private static final int TABLE_RESOLUTION = 512;
+
+    /**
+     * Cutoff as a fraction of the lower Nyquist frequency, leaving room for the filter transition band
+     */
+    private static final double ROLLOFF = 0.95;
+
+    private static final float[] KERNEL = createKernel();
+
+    private final long inputRate;
+    private final long outputRate;
+    private final double scale;
+    private final double halfWidth;
+
+    private float[] buffer;
+    private long bufferStart;
+    private int bufferLength;
+    private long inputCount;
+    private long outputIndex;
+
+    /**
+     * @param inputRate  The input sample rate in Hz
+     * @param outputRate The output sample rate in Hz
+     */
+    Resampler(int inputRate, int outputRate) {
+        this.inputRate = inputRate;
+        this.outputRate = outputRate;
+        this.scale = Math.min(1.0, (double) outputRate / inputRate) * ROLLOFF;
+        this.halfWidth = ZERO_CROSSINGS / scale;
+        this.buffer = new float[4096 + 2 * (int) Math.ceil(halfWidth)];
+    }
+
+    /**
+     * Computes the number of samples produced for an input of the given length
+     *
+     * @param inputLength The number of input samples
+     * @param inputRate   The input sample rate in Hz
+     * @param outputRate  The output sample rate in Hz
+     * @return The number of output samples
+     */
+    static long outputLength(long inputLength, int inputRate, int outputRate) {
+        return (inputLength * outputRate + inputRate - 1) / inputRate;
+    }
+
+    /**
+     * Appends input samples
+     *
+     * @param samples The samples
+     * @param offset  The offset of the first sample
+     * @param length  The number of samples
+     */
+    void write(float[] samples, int offset, int length) {
+        if (bufferLength + length > buffer.length) {
+            float[] grown = new float[Math.max(buffer.length * 2, bufferLength + length)];
+            System.arraycopy(buffer, 0, grown, 0, bufferLength);
+            buffer = grown;
+        }
+        System.arraycopy(samples, offset, buffer, bufferLength, length);
+        bufferLength += length;
+        inputCount += length;
+    }
+
+    /**
+     * Produces the output samples computable from the input written so far
+     *
+     * @param samples    The destination of the output samples
+     * @param offset     The offset of the first output sample
+     * @param length     The maximum number of output samples
+     * @param endOfInput Whether all input was written, in which case the remaining output is flushed
+     * @return The number of output samples produced
+     */
+    int read(float[] samples, int offset, int length, boolean endOfInput) {
+        long outputLength = endOfInput ? outputLength(inputCount, (int) inputRate, (int) outputRate) : Long.MAX_VALUE;
+        int produced = 0;
+        while (produced < length && outputIndex < outputLength) {
+            double center = position(outputIndex);
+            if (!endOfInput && (long) Math.floor(center + halfWidth) >= inputCount) {
+                break;
+            }
+            samples[offset + produced++] = convolve(center);
+            outputIndex++;
+        }
+        discardBefore((long) Math.floor(position(outputIndex) - halfWidth));
+        return produced;
+    }
+
+    private double position(long index) {
+        long numerator = index * inputRate;
+        return numerator / outputRate + (double) (numerator % outputRate) / outputRate;
+    }
+
+    private float convolve(double center) {
+        long first = Math.max(bufferStart, (long) Math.ceil(center - halfWidth));
+        long last = Math.min(bufferStart + bufferLength - 1, (long) Math.floor(center + halfWidth));
+        double sum = 0;
+        for (long j = first; j <= last; j++) {
+            sum += buffer[(int) (j - bufferStart)] * coefficient(center - j);
+        }
+        return (float) sum;
+    }
+
+    private double coefficient(double offset) {
+        double position = Math.abs(offset) * scale * TABLE_RESOLUTION;
+        int index = (int) position;
+        if (index >= ZERO_CROSSINGS * TABLE_RESOLUTION) {
+            return 0;
+        }
+        double fraction = position - index;
+        return scale * (KERNEL[index] + fraction * (KERNEL[index + 1] - KERNEL[index]));
+    }
+
+    private void discardBefore(long index) {
+        int count = (int) Math.min(Math.max(0, index - bufferStart), bufferLength);
+        if (count > 0) {
+            System.arraycopy(buffer, count, buffer, 0, bufferLength - count);
+            bufferLength -= count;
+            bufferStart += count;
+        }
+    }
+
+    private static float[] createKernel() {
+        int length = ZERO_CROSSINGS * TABLE_RESOLUTION;
+        float[] kernel = new float[length + 2];
+        kernel[0] = 1;
+        for (int i = 1; i <= length; i++) {
+            double x = (double) i / TABLE_RESOLUTION;
+            double sinc = Math.sin(Math.PI * x) / (Math.PI * x);
+            double w = x / ZERO_CROSSINGS;
+            double window = 0.42 + 0.5 * Math.cos(Math.PI * w) + 0.08 * Math.cos(2 * Math.PI * w);
+            kernel[i] = (float) (sinc * window);
+        }
+        return kernel;
+    }
+}
@@ -0,0 +1,110 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Trims the leading and trailing non-speech of 16 bit mono PCM audio, found by a {@link VoiceActivityDetector}.
+ * A little of the trimmed audio is kept around the speech so its onset and decay aren't cut. Pauses within the
+ * speech are kept, so the speech content reaching the service is unchanged.
+ */
+public final class SilenceTrimmer {
+
+    /**
+     * The audio kept before the first and after the last speech frame by default
+     */
+    public static final long DEFAULT_PADDING_MILLIS = 200;
+
+    /**
+     * The longest pause a trimmed stream holds back, in case it is trailing. Longer pauses are passed on as they
+     * are read so memory use stays bounded, and only their last part is trimmed if they end the stream.
+     */
+    static final long MAX_HELD_PAUSE_MILLIS = 5000;
+
+    private final long paddingMillis;
+
+    public SilenceTrimmer() {
+        this(DEFAULT_PADDING_MILLIS);
+    }
+
+    /**
+     * @param paddingMillis The audio kept before the first and after the last speech frame
+     */
+    public SilenceTrimmer(long paddingMillis) {
+        if (paddingMillis < 0) {
+            throw new IllegalArgumentException("paddingMillis < 0");
+        }
+        this.paddingMillis = paddingMillis;
+    }
+
+    /**
+     * Trims PCM samples without copying them
+     *
+     * @param pcm        The 16 bit little endian mono samples between the position and the limit of the buffer
+     * @param sampleRate The sample rate in Hz
+     * @return A slice of the buffer holding the speech and its padding, or a duplicate of the buffer if it holds no
+     * speech at all, in which case the service reports it
+     */
+    public ByteBuffer trim(ByteBuffer pcm, int sampleRate) {
+        VoiceActivityDetector detector = new VoiceActivityDetector(sampleRate);
+        int frameBytes = detector.getFrameBytes();
+        int start = pcm.position();
+        int frames = pcm.remaining() / frameBytes;
+        int first = -1;
+        int last = -1;
+        for (int frame = 0; frame < frames; frame++) {
+            if (detector.isSpeech(pcm, start + frame * frameBytes)) {
+                if (first < 0) {
+                    first = frame;
+                }
+                last = frame;
+            }
+        }
+        ByteBuffer trimmed = pcm.duplicate();
+        if (first < 0) {
+            return trimmed;
+        }
+        int padding = paddingFrames();
+        int end = last + 1 + padding >= frames ? pcm.limit() : start + (last + 1 + padding) * frameBytes;
+        trimmed.position(start + Math.max(0, first - padding) * frameBytes);
+        trimmed.limit(end);
+        return trimmed.slice();
+    }
+
+    /**
+     * Wraps a WAV stream in a stream returning it trimmed, as it is read. The header of the source is read
+     * immediately. 16 bit mono PCM audio is returned with a header of unknown length, other formats are returned
+     * untrimmed. Leading non-speech is dropped as it is read, so audio without any speech is returned as its last
+     * padding only. Closing the returned stream closes the source.
+     *
+     * @param wavStream The source WAV stream
+     * @return The trimmed WAV stream
+     * @throws UnsupportedAudioFormatException Signals the source isn't a WAV stream
+     * @throws IOException                     Signals a failure while reading the source header
+     */
+    public InputStream trim(InputStream wavStream) throws IOException {
+        WavHeader header = WavHeader.read(wavStream);
+        if (!isTrimmable(header)) {
+            return new SequenceInputStream(new ByteArrayInputStream(header.toByteArray()), wavStream);
+        }
+        int sampleRate = header.getSampleRate();
+        return new SilenceTrimmingInputStream(wavStream, header, new VoiceActivityDetector(sampleRate),
+                paddingFrames(), (int) (MAX_HELD_PAUSE_MILLIS / VoiceActivityDetector.FRAME_MILLIS));
+    }
+
+    /**
+     * @param header The audio header
+     * @return Whether audio of the given format can be trimmed
+     */
+    public static boolean isTrimmable(WavHeader header) {
+        return header.getAudioFormat() == WavHeader.FORMAT_PCM && header.getChannels() == 1
+                && header.getBitsPerSample() == 16 && header.getSampleRate() >= 1000 / VoiceActivityDetector.FRAME_MILLIS;
+    }
+
+    private int paddingFrames() {
+        return (int) ((paddingMillis + VoiceActivityDetector.FRAME_MILLIS - 1) / VoiceActivityDetector.FRAME_MILLIS);
+    }
+}
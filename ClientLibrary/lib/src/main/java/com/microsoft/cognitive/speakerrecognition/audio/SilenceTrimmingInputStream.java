@@ -0,0 +1,156 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream trimming the leading and trailing non-speech of 16 bit mono PCM WAV audio while it is read.
+ * <p>
+ * Frames are read into a ring allocated once. Before the first speech frame only the last padding frames are kept.
+ * Afterwards non-speech frames are held back until a speech frame follows, which releases them, or until more than
+ * the longest held pause are pending, which releases the oldest. At the end of the source only the padding of the
+ * pending frames is returned.
+ */
+class SilenceTrimmingInputStream extends InputStream {
+
+    private final InputStream source;
+    private final VoiceActivityDetector detector;
+    private final int frameBytes;
+    private final int paddingFrames;
+    private final int heldFrames;
+
+    private final byte[] header;
+    private int headerPosition;
+
+    private final byte[] ring;
+    private final int ringFrames;
+    private int head;
+    private int count;
+    private int releasable;
+    private int headOffset;
+    private int tailBytes;
+    private long sourceRemaining;
+    private boolean sourceDone;
+    private boolean speechSeen;
+
+    private final byte[] single = new byte[1];
+
+    /**
+     * @param source         The WAV stream, positioned at its first audio byte
+     * @param sourceHeader   The header read from the stream
+     * @param detector       The detector classifying the frames
+     * @param paddingFrames  The number of frames kept before the first and after the last speech frame
+     * @param maxPauseFrames The number of non-speech frames held back after a speech frame
+     */
+    SilenceTrimmingInputStream(InputStream source, WavHeader sourceHeader, VoiceActivityDetector detector,
+                               int paddingFrames, int maxPauseFrames) {
+        this.source = source;
+        this.detector = detector;
+        this.frameBytes = detector.getFrameBytes();
+        this.paddingFrames = paddingFrames;
+        this.heldFrames = maxPauseFrames + paddingFrames;
+        this.header = WavHeader.pcm(sourceHeader.getSampleRate(), 1, 16, -1).toByteArray();
+        // The held frames, the frame releasing the oldest of them and a partial last frame
+        this.ringFrames = heldFrames + 2;
+        this.ring = new byte[ringFrames * frameBytes];
+        this.tailBytes = frameBytes;
+        this.sourceRemaining = sourceHeader.getDataLength() < 0 ? Long.MAX_VALUE : sourceHeader.getDataLength();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (headerPosition < header.length) {
+            int n = Math.min(length, header.length - headerPosition);
+            System.arraycopy(header, headerPosition, bytes, offset, n);
+            headerPosition += n;
+            return n;
+        }
+        fill();
+        if (releasable == 0) {
+            return -1;
+        }
+        int total = 0;
+        while (total < length && releasable > 0) {
+            int frameLength = count == 1 ? tailBytes : frameBytes;
+            int n = Math.min(length - total, frameLength - headOffset);
+            System.arraycopy(ring, head * frameBytes + headOffset, bytes, offset + total, n);
+            total += n;
+            headOffset += n;
+            if (headOffset == frameLength) {
+                head = (head + 1) % ringFrames;
+                count--;
+                releasable--;
+                headOffset = 0;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * Reads and classifies frames until some can be returned or the source ends
+     */
+    private void fill() throws IOException {
+        while (releasable == 0 && !sourceDone) {
+            int slot = (head + count) % ringFrames;
+            int read = readFrame(slot * frameBytes);
+            if (read < frameBytes) {
+                sourceDone = true;
+                finish(slot, read);
+                return;
+            }
+            count++;
+            if (detector.isSpeech(ring, slot * frameBytes)) {
+                speechSeen = true;
+                releasable = count;
+            } else if (!speechSeen) {
+                if (count > paddingFrames) {
+                    head = (head + 1) % ringFrames;
+                    count--;
+                }
+            } else if (count - releasable > heldFrames) {
+                releasable++;
+            }
+        }
+    }
+
+    /**
+     * Releases the padding of the pending frames, along with the partial last frame if it falls in the padding
+     */
+    private void finish(int partialSlot, int partialBytes) {
+        int pending = count - releasable;
+        int kept = speechSeen ? Math.min(pending, paddingFrames) : pending;
+        releasable += kept;
+        count = releasable;
+        if (partialBytes > 0 && kept == pending && (head + count) % ringFrames == partialSlot) {
+            tailBytes = partialBytes;
+            count++;
+            releasable++;
+        }
+    }
+
+    private int readFrame(int offset) throws IOException {
+        int total = 0;
+        while (total < frameBytes && sourceRemaining > 0) {
+            int read = source.read(ring, offset + total, (int) Math.min(frameBytes - total, sourceRemaining));
+            if (read == -1) {
+                break;
+            }
+            total += read;
+            sourceRemaining -= read;
+        }
+        return total;
+    }
+}
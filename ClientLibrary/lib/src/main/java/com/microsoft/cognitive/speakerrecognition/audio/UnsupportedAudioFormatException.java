@@ -0,0 +1,18 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.io.IOException;
+
+/**
+ * A class encapsulating an exception raised when audio is not a WAV stream the library can read
+ */
+public class UnsupportedAudioFormatException extends IOException {
+
+    /**
+     * A public constructor creating the exception with a specified message
+     *
+     * @param message Exception message
+     */
+    public UnsupportedAudioFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,137 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Classifies 16 bit mono PCM audio as speech or non-speech, one frame of {@link #FRAME_MILLIS} ms at a time.
+ * <p>
+ * A frame is speech when its energy is well above the background noise level, or moderately above it with a high
+ * zero-crossing rate, which catches unvoiced consonants such as "s" or "f". The noise level follows the quietest
+ * frames: it drops immediately to a quieter frame and otherwise rises slowly, so it settles on the pauses between
+ * words rather than on speech. It starts no higher than a quiet room, so audio starting with speech is classified
+ * as such from its first frame. Frames are read in place and nothing is allocated per frame.
+ * <p>
+ * A detector keeps the state of one stream and is not thread safe, call {@link #reset()} before reusing it.
+ */
+public final class VoiceActivityDetector {
+
+    /**
+     * The duration of a frame
+     */
+    public static final int FRAME_MILLIS = 20;
+
+    /**
+     * The mean square of a -60 dBFS signal, below which a frame is never speech
+     */
+    private static final double MIN_SPEECH_ENERGY = 1074;
+
+    /**
+     * The energy ratio to the noise level above which a frame is speech, 10 dB
+     */
+    private static final double SPEECH_RATIO = 10;
+
+    /**
+     * The energy ratio to the noise level above which a frame with a high zero-crossing rate is speech, 5 dB
+     */
+    private static final double UNVOICED_RATIO = 3.16;
+
+    /**
+     * The share of sign changes between samples from which a frame is considered unvoiced
+     */
+    private static final double UNVOICED_ZERO_CROSSING_RATE = 0.3;
+
+    /**
+     * The highest initial noise level, the mean square of a -50 dBFS signal
+     */
+    private static final double MAX_INITIAL_NOISE_ENERGY = 10737;
+
+    /**
+     * How fast the noise level rises per frame without a quieter frame, about 10 dB in 9 seconds
+     */
+    private static final double NOISE_RISE = 0.005;
+
+    private final int frameSamples;
+    private double noiseEnergy = -1;
+
+    /**
+     * @param sampleRate The sample rate of the audio in Hz
+     */
+    public VoiceActivityDetector(int sampleRate) {
+        if (sampleRate < 1000 / FRAME_MILLIS) {
+            throw new IllegalArgumentException("sampleRate too low: " + sampleRate);
+        }
+        this.frameSamples = sampleRate * FRAME_MILLIS / 1000;
+    }
+
+    /**
+     * @return The number of bytes of a frame
+     */
+    public int getFrameBytes() {
+        return frameSamples * 2;
+    }
+
+    /**
+     * Classifies the next frame of a stream
+     *
+     * @param pcm    The 16 bit little endian mono samples
+     * @param offset The offset of the frame, followed by at least {@link #getFrameBytes()} bytes
+     * @return Whether the frame is speech
+     */
+    public boolean isSpeech(byte[] pcm, int offset) {
+        long sumSquares = 0;
+        int crossings = 0;
+        int previous = 0;
+        for (int i = 0; i < frameSamples; i++) {
+            int index = offset + 2 * i;
+            int sample = (short) ((pcm[index] & 0xFF) | pcm[index + 1] << 8);
+            sumSquares += sample * sample;
+            if (i > 0 && (sample ^ previous) < 0) {
+                crossings++;
+            }
+            previous = sample;
+        }
+        return classify(sumSquares, crossings);
+    }
+
+    /**
+     * Classifies the next frame of a stream, ignoring the position and byte order of the buffer
+     *
+     * @param pcm    The 16 bit little endian mono samples
+     * @param offset The absolute offset of the frame, followed by at least {@link #getFrameBytes()} bytes
+     * @return Whether the frame is speech
+     */
+    public boolean isSpeech(ByteBuffer pcm, int offset) {
+        long sumSquares = 0;
+        int crossings = 0;
+        int previous = 0;
+        for (int i = 0; i < frameSamples; i++) {
+            int index = offset + 2 * i;
+            int sample = (short) ((pcm.get(index) & 0xFF) | pcm.get(index + 1) << 8);
+            sumSquares += sample * sample;
+            if (i > 0 && (sample ^ previous) < 0) {
+                crossings++;
+            }
+            previous = sample;
+        }
+        return classify(sumSquares, crossings);
+    }
+
+    /**
+     * Forgets the noise level, before classifying another stream
+     */
+    public void reset() {
+        noiseEnergy = -1;
+    }
+
+    private boolean classify(long sumSquares, int crossings) {
+        double energy = (double) sumSquares / frameSamples;
+        double zeroCrossingRate = (double) crossings / (frameSamples - 1);
+        noiseEnergy = noiseEnergy < 0
+                ? Math.min(energy, MAX_INITIAL_NOISE_ENERGY)
+                : Math.min(noiseEnergy * (1 + NOISE_RISE), energy);
+        double floor = Math.max(noiseEnergy, MIN_SPEECH_ENERGY / SPEECH_RATIO);
+        return energy >= MIN_SPEECH_ENERGY
+                && (energy >= floor * SPEECH_RATIO
+                || (energy >= floor * UNVOICED_RATIO && zeroCrossingRate >= UNVOICED_ZERO_CROSSING_RATE));
+    }
+}
@@ -0,0 +1,345 @@
+package com.microsoft.cognitive.speakerrecognition.audio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The format description of a RIFF/WAV stream
+ */
+public final class WavHeader {
+
+    /**
+     * Integer PCM samples
+     */
+    public static final int FORMAT_PCM = 1;
+
+    /**
+     * IEEE floating point samples
+     */
+    public static final int FORMAT_IEEE_FLOAT = 3;
+
+    /**
+     * The format is given by the sub format of the extensible format chunk
+     */
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    /**
+     * Size of the canonical header written by {@link #toByteArray()}
+     */
+    public static final int CANONICAL_LENGTH = 44;
+
+    /**
+     * Chunk size written by recorders that stream WAV without knowing its final length
+     */
+    private static final long UNKNOWN_CHUNK_SIZE = 0xFFFFFFFFL;
+
+    private final int audioFormat;
+    private final int channels;
+    private final int sampleRate;
+    private final int bitsPerSample;
+    private final long dataLength;
+
+    private WavHeader(int audioFormat, int channels, int sampleRate, int bitsPerSample, long dataLength) {
+        this.audioFormat = audioFormat;
+        this.channels = channels;
+        this.sampleRate = sampleRate;
+        this.bitsPerSample = bitsPerSample;
+        this.dataLength = dataLength;
+    }
+
+    /**
+     * Creates the header of an integer PCM stream
+     *
+     * @param sampleRate    The sample rate in Hz
+     * @param channels      The number of interleaved channels
+     * @param bitsPerSample The number of bits per sample
+     * @param dataLength    The number of audio bytes, or -1 if unknown
+     * @return The header
+     */
+    public static WavHeader pcm(int sampleRate, int channels, int bitsPerSample, long dataLength) {
+        return new WavHeader(FORMAT_PCM, channels, sampleRate, bitsPerSample, dataLength);
+    }
+
+    /**
+     * Reads a WAV header, leaving the stream positioned at the first audio byte
+     *
+     * @param in The WAV stream
+     * @return The header
+     * @throws UnsupportedAudioFormatException Signals the stream is not a RIFF/WAV stream
+     * @throws IOException                     Signals a failure while reading the stream
+     */
+    public static WavHeader read(InputStream in) throws IOException {
+        byte[] bytes = new byte[16];
+        readFully(in, bytes, 12);
+        if (!isTag(bytes, 0, "RIFF") || !isTag(bytes, 8, "WAVE")) {
+            throw new UnsupportedAudioFormatException("Not a RIFF/WAVE stream");
+        }
+
+        int audioFormat = -1;
+        int channels = 0;
+        int sampleRate = 0;
+        int bitsPerSample = 0;
+        while (true) {
+            readFully(in, bytes, 8);
+            long chunkSize = readInt(bytes, 4) & 0xFFFFFFFFL;
+            if (isTag(bytes, 0, "fmt ")) {
+                if (chunkSize < 16) {
+                    throw new UnsupportedAudioFormatException("Truncated fmt chunk");
+                }
+                readFully(in, bytes, 16);
+                audioFormat = readShort(bytes, 0);
+                channels = readShort(bytes, 2);
+                sampleRate = readInt(bytes, 4);
+                bitsPerSample = readShort(bytes, 14);
+                long remaining = chunkSize - 16;
+                if (audioFormat == FORMAT_EXTENSIBLE && remaining >= 10) {
+                    // cbSize, valid bits and channel mask precede the sub format GUID, which starts with the format code
+                    readFully(in, bytes, 10);
+                    audioFormat = readShort(bytes, 8);
+                    remaining -= 10;
+                }
+                skipFully(in, remaining + (chunkSize & 1));
+            } else if (isTag(bytes, 0, "data")) {
+                if (audioFormat == -1) {
+                    throw new UnsupportedAudioFormatException("The data chunk precedes the fmt chunk");
+                }
+                long dataLength = chunkSize == UNKNOWN_CHUNK_SIZE || chunkSize == 0 ? -1 : chunkSize;
+                return new WavHeader(audioFormat, channels, sampleRate, bitsPerSample, dataLength);
+            } else {
+                skipFully(in, chunkSize + (chunkSize & 1));
+            }
+        }
+    }
+
+    /**
+     * Parses a WAV header in place, without copying the buffer, leaving the buffer positioned at the first audio byte.
+     * The byte order of the buffer is ignored.
+     *
+     * @param buffer The WAV bytes from the buffer position on
+     * @return The header
+     * @throws UnsupportedAudioFormatException Signals the buffer doesn't hold a RIFF/WAV stream
+     * @throws EOFException                    Signals the buffer ends within the header
+     */
+    public static WavHeader parse(ByteBuffer buffer) throws IOException {
+        int offset = buffer.position();
+        require(buffer, offset, 12);
+        if (!isTag(buffer, offset, "RIFF") || !isTag(buffer, offset + 8, "WAVE")) {
+            throw new UnsupportedAudioFormatException("Not a RIFF/WAVE stream");
+        }
+        offset += 12;
+
+        int audioFormat = -1;
+        int channels = 0;
+        int sampleRate = 0;
+        int bitsPerSample = 0;
+        while (true) {
+            require(buffer, offset, 8);
+            long chunkSize = readInt(buffer, offset + 4) & 0xFFFFFFFFL;
+            int body = offset + 8;
+            if (isTag(buffer, offset, "data")) {
+                if (audioFormat == -1) {
+                    throw new UnsupportedAudioFormatException("The data chunk precedes the fmt chunk");
+                }
+                buffer.position(body);
+                long dataLength = chunkSize == UNKNOWN_CHUNK_SIZE || chunkSize == 0 ? -1 : chunkSize;
+                return new WavHeader(audioFormat, channels, sampleRate, bitsPerSample, dataLength);
+            }
+            if (isTag(buffer, offset, "fmt ")) {
+                if (chunkSize < 16) {
+                    throw new UnsupportedAudioFormatException("Truncated fmt chunk");
+                }
+                require(buffer, body, 16);
+                audioFormat = readShort(buffer, body);
+                channels = readShort(buffer, body + 2);
+                sampleRate = readInt(buffer, body + 4);
+                bitsPerSample = readShort(buffer, body + 14);
+                if (audioFormat == FORMAT_EXTENSIBLE && chunkSize >= 26) {
+                    require(buffer, body + 16, 10);
+                    audioFormat = readShort(buffer, body + 24);
+                }
+            }
+            long next = body + chunkSize + (chunkSize & 1);
+            if (next > buffer.limit()) {
+                throw new EOFException("Unexpected end of WAV header");
+            }
+            offset = (int) next;
+        }
+    }
+
+    /**
+     * @return The format code, {@link #FORMAT_PCM} or {@link #FORMAT_IEEE_FLOAT} for supported streams
+     */
+    public int getAudioFormat() {
+        return audioFormat;
+    }
+
+    /**
+     * @return The number of interleaved channels
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * @return The sample rate in Hz
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return The number of bits per sample
+     */
+    public int getBitsPerSample() {
+        return bitsPerSample;
+    }
+
+    /**
+     * @return The number of bytes per frame, i.e. one sample of every channel
+     */
+    public int getBlockAlign() {
+        return channels * ((bitsPerSample + 7) / 8);
+    }
+
+    /**
+     * @return The number of audio bytes, or -1 if the stream doesn't declare it
+     */
+    public long getDataLength() {
+        return dataLength;
+    }
+
+    /**
+     * @return The number of frames, or -1 if the stream doesn't declare its length
+     */
+    public long getFrameCount() {
+        return dataLength < 0 || getBlockAlign() == 0 ? -1 : dataLength / getBlockAlign();
+    }
+
+    /**
+     * Checks whether the stream holds integer PCM audio of the given format
+     *
+     * @param sampleRate    The sample rate in Hz
+     * @param channels      The number of channels
+     * @param bitsPerSample The number of bits per sample
+     * @return true if the format matches
+     */
+    public boolean isPcm(int sampleRate, int channels, int bitsPerSample) {
+        return audioFormat == FORMAT_PCM
+                && this.sampleRate == sampleRate
+                && this.channels == channels
+                && this.bitsPerSample == bitsPerSample;
+    }
+
+    /**
+     * Encodes this header as the canonical 44 byte RIFF header of a single fmt and data chunk
+     *
+     * @return The encoded header
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[CANONICAL_LENGTH];
+        long dataSize = dataLength < 0 ? UNKNOWN_CHUNK_SIZE : dataLength;
+        long riffSize = dataLength < 0 ? UNKNOWN_CHUNK_SIZE : Math.min(UNKNOWN_CHUNK_SIZE, dataLength + CANONICAL_LENGTH - 8);
+        writeTag(bytes, 0, "RIFF");
+        writeInt(bytes, 4, (int) riffSize);
+        writeTag(bytes, 8, "WAVE");
+        writeTag(bytes, 12, "fmt ");
+        writeInt(bytes, 16, 16);
+        writeShort(bytes, 20, audioFormat);
+        writeShort(bytes, 22, channels);
+        writeInt(bytes, 24, sampleRate);
+        writeInt(bytes, 28, sampleRate * getBlockAlign());
+        writeShort(bytes, 32, getBlockAlign());
+        writeShort(bytes, 34, bitsPerSample);
+        writeTag(bytes, 36, "data");
+        writeInt(bytes, 40, (int) dataSize);
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "WavHeader{format=" + audioFormat + ", channels=" + channels + ", sampleRate=" + sampleRate
+                + ", bitsPerSample=" + bitsPerSample + ", dataLength=" + dataLength + "}";
+    }
+
+    private static boolean isTag(byte[] bytes, int offset, String tag) {
+        for (int i = 0; i < 4; i++) {
+            if (bytes[offset + i] != tag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return readShort(bytes, offset) | readShort(bytes, offset + 2) << 16;
+    }
+
+    private static boolean isTag(ByteBuffer buffer, int offset, String tag) {
+        for (int i = 0; i < 4; i++) {
+            if (buffer.get(offset + i) != tag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readShort(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset) & 0xFF) | (buffer.get(offset + 1) & 0xFF) << 8;
+    }
+
+    private static int readInt(ByteBuffer buffer, int offset) {
+        return readShort(buffer, offset) | readShort(buffer, offset + 2) << 16;
+    }
+
+    private static void require(ByteBuffer buffer, int offset, int length) throws EOFException {
+        if (buffer.limit() - offset < length) {
+            throw new EOFException("Unexpected end of WAV header");
+        }
+    }
+
+    private static void writeTag(byte[] bytes, int offset, String tag) {
+        for (int i = 0; i < 4; i++) {
+            bytes[offset + i] = (byte) tag.charAt(i);
+        }
+    }
+
+    private static void writeShort(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >> 8);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        writeShort(bytes, offset, value);
+        writeShort(bytes, offset + 2, value >> 16);
+    }
+
+    private static void readFully(InputStream in, byte[] bytes, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            int read = in.read(bytes, offset, length - offset);
+            if (read == -1) {
+                throw new EOFException("Unexpected end of WAV header");
+            }
+            offset += read;
+        }
+    }
+
+    private static void skipFully(InputStream in, long length) throws IOException {
+        while (length > 0) {
+            long skipped = in.skip(length);
+            if (skipped <= 0) {
+                if (in.read() == -1) {
+                    throw new EOFException("Unexpected end of WAV header");
+                }
+                skipped = 1;
+            }
+            length -= skipped;
+        }
+    }
+}